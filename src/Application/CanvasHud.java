@@ -0,0 +1,233 @@
+package Application;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.beans.value.WeakChangeListener;
+import javafx.geometry.VPos;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Label;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * Draws the game's HUD into a single canvas.
+ * <p>
+ * This is a drop-in alternative to {@link UserInterface} with the same layout: happiness,
+ * tiredness, hearts and hunger at the bottom right, coins and score at the top right. The whole
+ * display is two nodes, a pane and its canvas, instead of about 25, so CSS and layout passes
+ * have almost nothing to visit. Icons are drawn from images loaded once per run.
+ * </p>
+ * <p>
+ * Like {@link UserInterface}, each update method compares the pet's value with the one on
+ * screen and does nothing if it is unchanged; otherwise the canvas is redrawn in one pass.
+ * The shared coin label is not shown, but the canvas follows its text so coin income appears
+ * as soon as the label is updated.
+ * </p>
+ */
+public class CanvasHud implements Hud {
+
+    // Icons shared by every canvas HUD.
+    private static final Image HEART_FULL = new Image("file:src/assets/heartFull.png");
+    private static final Image HEART_EMPTY = new Image("file:src/assets/heartEmpty.png");
+    private static final Image HUNGER_FULL = new Image("file:src/assets/hungerFull.png");
+    private static final Image HUNGER_EMPTY = new Image("file:src/assets/hungerEmpty.png");
+    private static final Image COIN = new Image("file:src/assets/coinFront.png");
+
+    private static final Font FONT = Font.font("System", FontWeight.BOLD, 18);
+    private static final Color STAT_COLOUR = Color.rgb(255, 112, 112);
+    private static final double ICON_SIZE = 25;
+    private static final double COIN_SIZE = 30;
+    private static final double LINE_HEIGHT = 25;
+
+    private final Scene scene;
+    private final Duck pet;
+    private final Label moneyLabel;
+    // Kept in step with the drawn score for callers that read the score as a label.
+    private final Label scoreLabel;
+    private final Canvas canvas = new Canvas();
+    private final ChangeListener<String> coinListener = this::onCoinLabelChanged;
+
+    // Values currently drawn.
+    private int shownHealth;
+    private int shownHunger;
+    private int shownHappiness;
+    private int shownTiredness;
+    private int shownScore;
+    private int shownCoins;
+    private long skippedUpdates = 0;
+
+    /**
+     * Constructs the canvas HUD.
+     *
+     * @param settings  the game settings (currently unused, as in {@link UserInterface})
+     * @param pet       the pet whose stats are shown
+     * @param coinLabel the shared label holding the current coin count
+     */
+    public CanvasHud(GameSettingsAndStats settings, Duck pet, Label coinLabel) {
+        this.pet = pet;
+        this.moneyLabel = coinLabel;
+        this.scoreLabel = new Label();
+
+        // The canvas always covers the pane, which the screen stretches over its layout. It is
+        // unmanaged so that its size, bound to the pane's, never feeds back into the pane's.
+        Pane root = new Pane(canvas);
+        root.setStyle("-fx-background-color: transparent;");
+        root.setPrefSize(800, 600);
+        canvas.setManaged(false);
+        canvas.widthProperty().bind(root.widthProperty());
+        canvas.heightProperty().bind(root.heightProperty());
+        canvas.widthProperty().addListener(o -> redraw());
+        canvas.heightProperty().addListener(o -> redraw());
+
+        // The label outlives the HUD, so it only holds the listener weakly. A change listener
+        // is used because nothing else reads the label's text while the canvas HUD is shown.
+        coinLabel.textProperty().addListener(new WeakChangeListener<>(coinListener));
+
+        shownHealth = pet.getHealth();
+        shownHunger = pet.getHunger();
+        shownHappiness = pet.getHappiness();
+        shownTiredness = pet.getTiredness();
+        shownScore = pet.getScore();
+        shownCoins = pet.getCoins();
+        scoreLabel.setText("Score: " + shownScore);
+
+        this.scene = new Scene(root, 800, 600);
+    }
+
+    @Override
+    public Scene getScene() {
+        return scene;
+    }
+
+    @Override
+    public void updateHealth() {
+        int health = pet.getHealth();
+        if (health == shownHealth) {
+            skippedUpdates++;
+            return;
+        }
+        shownHealth = health;
+        redraw();
+    }
+
+    @Override
+    public void updateHunger() {
+        int hunger = pet.getHunger();
+        if (hunger == shownHunger) {
+            skippedUpdates++;
+            return;
+        }
+        shownHunger = hunger;
+        redraw();
+    }
+
+    @Override
+    public void updateScore() {
+        int score = pet.getScore();
+        if (score == shownScore) {
+            skippedUpdates++;
+            return;
+        }
+        shownScore = score;
+        scoreLabel.setText("Score: " + score);
+        redraw();
+    }
+
+    @Override
+    public void updateCoinDisplay() {
+        int coins = pet.getCoins();
+        if (coins == shownCoins) {
+            skippedUpdates++;
+            return;
+        }
+        shownCoins = coins;
+        moneyLabel.setText(" x " + coins);
+        redraw();
+    }
+
+    @Override
+    public void updateStatsDisplay() {
+        int happiness = pet.getHappiness();
+        int tiredness = pet.getTiredness();
+        if (happiness == shownHappiness && tiredness == shownTiredness) {
+            skippedUpdates++;
+            return;
+        }
+        shownHappiness = happiness;
+        shownTiredness = tiredness;
+        redraw();
+    }
+
+    @Override
+    public Label getCoinLabel() {
+        return moneyLabel;
+    }
+
+    @Override
+    public Label getScoreLabel() {
+        return scoreLabel;
+    }
+
+    @Override
+    public long getSkippedUpdates() {
+        return skippedUpdates;
+    }
+
+    // Picks up coin changes made through the shared label, e.g. by Main's coin timer.
+    private void onCoinLabelChanged(ObservableValue<? extends String> text, String oldText, String newText) {
+        updateCoinDisplay();
+    }
+
+    // Draws the whole HUD. Clearing the full canvas first lets it drop the previous drawing.
+    private void redraw() {
+        double width = canvas.getWidth();
+        double height = canvas.getHeight();
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, width, height);
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        gc.setFont(FONT);
+        gc.setTextBaseline(VPos.CENTER);
+
+        // Bottom right, bottom to top: hunger, hearts, tiredness, happiness.
+        double right = width - 20;
+        double hungerY = height - 50 - ICON_SIZE;
+        double heartsY = hungerY - ICON_SIZE;
+        drawIcons(gc, right, hungerY, shownHunger, HUNGER_FULL, HUNGER_EMPTY);
+        drawIcons(gc, right, heartsY, shownHealth, HEART_FULL, HEART_EMPTY);
+        gc.setTextAlign(TextAlignment.RIGHT);
+        drawOutlined(gc, "Tiredness: " + shownTiredness, right, heartsY - LINE_HEIGHT / 2);
+        drawOutlined(gc, "Happiness: " + shownHappiness, right, heartsY - LINE_HEIGHT * 3 / 2);
+
+        // Top right: coin counter above the score.
+        double textRight = width - 25;
+        gc.setFill(Color.BLACK);
+        gc.fillText(" x " + shownCoins, textRight, 25 + COIN_SIZE / 2);
+        gc.fillText("Score: " + shownScore, textRight, 25 + COIN_SIZE + LINE_HEIGHT / 2);
+        gc.drawImage(COIN, textRight - 70 - COIN_SIZE, 25, COIN_SIZE, COIN_SIZE);
+    }
+
+    // Draws a right-aligned row of 10 icons, the first {@code value} of them full.
+    private static void drawIcons(GraphicsContext gc, double right, double y, int value, Image full, Image empty) {
+        double x = right - 10 * ICON_SIZE;
+        for (int i = 0; i < 10; i++) {
+            gc.drawImage(i < value ? full : empty, x + i * ICON_SIZE, y, ICON_SIZE, ICON_SIZE);
+        }
+    }
+
+    // Draws stat text with the black outline the node HUD gets from its drop shadow.
+    private static void drawOutlined(GraphicsContext gc, String text, double x, double y) {
+        gc.setStroke(Color.BLACK);
+        gc.setLineWidth(3);
+        gc.strokeText(text, x, y);
+        gc.setFill(STAT_COLOUR);
+        gc.fillText(text, x, y);
+    }
+}
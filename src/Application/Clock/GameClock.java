@@ -0,0 +1,328 @@
+package Application.Clock;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * The source of game time that every gameplay timer runs on.
+ * <p>
+ * A clock keeps its own time in milliseconds, starting at 0, and fires its {@link GameTimer}s
+ * as that time passes: strictly in time order, and every firing even when a single step covers
+ * many periods. Timers due at the same moment fire in the order they were started. How game
+ * time relates to real time depends on the variant:
+ * </p>
+ * <ul>
+ *   <li>{@link #realTime()} follows the wall clock;</li>
+ *   <li>{@link #accelerated(double)} runs a fixed factor faster, e.g. x10 to x1000 for soak runs;</li>
+ *   <li>{@link #paused()} stands still until {@link #setRate(double)} gives it a rate;</li>
+ *   <li>{@link #manual()} only moves when {@link #advance(long)} is called, for tests.</li>
+ * </ul>
+ * <p>
+ * Driven clocks are advanced on the JavaFX application thread by an animation pulse once
+ * {@link #start()} is called. Clocks are not thread-safe; use each one from a single thread.
+ * </p>
+ * <p>
+ * Scheduled timers are kept in a {@link TimingWheel}, so starting, pausing and stopping a
+ * timer cost the same however many are running, and each pulse only looks at the slots of
+ * time it covers.
+ * </p>
+ */
+public class GameClock {
+
+    // Timers ordered by when they are next due, then by when they were started.
+    private static final Comparator<GameTimer> DUE_ORDER =
+            Comparator.comparingLong(GameTimer::getNextDue).thenComparingLong(GameTimer::getSequence);
+
+    private final TimingWheel wheel = new TimingWheel();
+    // Timers due within the slot being processed, in firing order.
+    private final PriorityQueue<GameTimer> ready = new PriorityQueue<>(DUE_ORDER);
+    private long processingSlot = -1;
+    private long processingUntil;
+    private final boolean manual;
+    private double rate;
+    private long now = 0;
+    private long sequence = 0;
+    private boolean advancing = false;
+    // Created on start so that headless clocks never touch the JavaFX toolkit.
+    private PulseDriver driver;
+
+    /**
+     * Creates a clock.
+     *
+     * @param rate   game milliseconds per real millisecond; ignored by manual clocks
+     * @param manual true if the clock only moves through {@link #advance(long)}
+     */
+    protected GameClock(double rate, boolean manual) {
+        this.rate = rate;
+        this.manual = manual;
+    }
+
+    /**
+     * Creates a clock that runs at wall-clock speed.
+     *
+     * @return the clock, not yet started
+     */
+    public static GameClock realTime() {
+        return new GameClock(1, false);
+    }
+
+    /**
+     * Creates a clock that runs faster than the wall clock.
+     *
+     * @param factor game seconds per real second
+     * @return the clock, not yet started
+     * @throws IllegalArgumentException if the factor is not positive
+     */
+    public static GameClock accelerated(double factor) {
+        if (!(factor > 0)) {
+            throw new IllegalArgumentException("Clock acceleration must be positive: " + factor);
+        }
+        return new GameClock(factor, false);
+    }
+
+    /**
+     * Creates a driven clock that stands still until given a rate.
+     *
+     * @return the clock, not yet started
+     */
+    public static GameClock paused() {
+        return new GameClock(0, false);
+    }
+
+    /**
+     * Creates a clock that only moves when it is advanced explicitly.
+     *
+     * @return the clock
+     */
+    public static GameClock manual() {
+        return new GameClock(0, true);
+    }
+
+    /**
+     * Creates a clock from a short description, such as the {@code duck.clock} system property.
+     * <p>
+     * Accepted values are {@code real} (also used for null or empty), {@code paused},
+     * {@code manual}, and {@code x} followed by an acceleration factor, e.g. {@code x100}.
+     * </p>
+     *
+     * @param spec the description
+     * @return the clock, not yet started
+     * @throws IllegalArgumentException if the description is not recognised
+     */
+    public static GameClock fromSpec(String spec) {
+        if (spec == null || spec.trim().isEmpty() || spec.trim().equalsIgnoreCase("real")) {
+            return realTime();
+        }
+        String value = spec.trim().toLowerCase();
+        if (value.equals("paused")) {
+            return paused();
+        }
+        if (value.equals("manual")) {
+            return manual();
+        }
+        if (value.startsWith("x")) {
+            try {
+                return accelerated(Double.parseDouble(value.substring(1)));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Unknown clock: " + spec, e);
+            }
+        }
+        throw new IllegalArgumentException("Unknown clock: " + spec);
+    }
+
+    /**
+     * Returns the current game time.
+     *
+     * @return milliseconds of game time since the clock was created
+     */
+    public long now() {
+        return now;
+    }
+
+    /**
+     * Checks whether the clock only moves through {@link #advance(long)}.
+     *
+     * @return true for manual clocks
+     */
+    public boolean isManual() {
+        return manual;
+    }
+
+    /**
+     * Returns how fast the clock runs relative to real time.
+     *
+     * @return game milliseconds per real millisecond; 0 while paused
+     */
+    public double getRate() {
+        return rate;
+    }
+
+    /**
+     * Changes how fast a driven clock runs; 0 pauses it.
+     *
+     * @param rate game milliseconds per real millisecond
+     * @throws IllegalArgumentException if the rate is negative
+     * @throws IllegalStateException if the clock is manual
+     */
+    public void setRate(double rate) {
+        if (manual) {
+            throw new IllegalStateException("A manual clock only moves through advance()");
+        }
+        if (!(rate >= 0)) {
+            throw new IllegalArgumentException("Clock rate cannot be negative: " + rate);
+        }
+        this.rate = rate;
+    }
+
+    /**
+     * Creates a stopped timer that runs an action every period of game time.
+     * <p>
+     * Like an indefinite {@code Timeline}, the first run comes one full period after
+     * {@link GameTimer#play()}.
+     * </p>
+     *
+     * @param periodMillis the period in game milliseconds
+     * @param action       the action to run
+     * @return the timer
+     * @throws IllegalArgumentException if the period is not positive
+     */
+    public GameTimer every(long periodMillis, Runnable action) {
+        if (periodMillis <= 0) {
+            throw new IllegalArgumentException("Timer period must be positive: " + periodMillis);
+        }
+        return new GameTimer(this, periodMillis, action, true);
+    }
+
+    /**
+     * Creates a stopped timer that runs an action once, a delay of game time after it is played.
+     * <p>
+     * The timer stops itself before the action runs, so the action may play it again or
+     * create the next one-shot.
+     * </p>
+     *
+     * @param delayMillis the delay in game milliseconds
+     * @param action      the action to run
+     * @return the timer
+     * @throws IllegalArgumentException if the delay is not positive
+     */
+    public GameTimer after(long delayMillis, Runnable action) {
+        if (delayMillis <= 0) {
+            throw new IllegalArgumentException("Timer delay must be positive: " + delayMillis);
+        }
+        return new GameTimer(this, delayMillis, action, false);
+    }
+
+    /**
+     * Moves game time forward, firing every timer that falls due on the way in time order.
+     *
+     * @param millis the game milliseconds to advance
+     * @throws IllegalStateException if called from a timer action
+     */
+    public void advance(long millis) {
+        if (advancing) {
+            throw new IllegalStateException("Cannot advance a clock from one of its own timers");
+        }
+        advancing = true;
+        try {
+            long target = now + Math.max(0, millis);
+            long lastSlot = TimingWheel.slotOf(target);
+            for (long slot = TimingWheel.slotOf(now); slot <= lastSlot && wheel.size() > 0; slot++) {
+                processingSlot = slot;
+                processingUntil = target;
+                wheel.expire(slot, target, this::enqueue);
+                GameTimer next;
+                while ((next = ready.poll()) != null) {
+                    next.queued = false;
+                    now = next.getNextDue();
+                    // Reschedule before running so the action can pause or stop its own timer.
+                    if (next.isRepeating()) {
+                        next.rescheduled();
+                        place(next);
+                    } else {
+                        next.expired();
+                    }
+                    next.fire();
+                }
+            }
+            now = target;
+        } finally {
+            advancing = false;
+            processingSlot = -1;
+        }
+    }
+
+    /**
+     * Starts advancing a driven clock on every animation pulse. Manual clocks ignore this.
+     */
+    public void start() {
+        if (manual) {
+            return;
+        }
+        if (driver == null) {
+            driver = new PulseDriver(this);
+        }
+        driver.start();
+    }
+
+    /**
+     * Stops driving the clock while the game cannot be seen.
+     * <p>
+     * Real time keeps counting: on {@link #resume()} the clock catches up by the whole gap,
+     * firing every timer that fell due in order.
+     * </p>
+     */
+    public void suspend() {
+        if (driver != null) {
+            driver.stop();
+        }
+    }
+
+    /**
+     * Resumes a clock after {@link #suspend()}, catching up on the time that passed.
+     */
+    public void resume() {
+        if (driver != null) {
+            driver.start();
+        }
+    }
+
+    /**
+     * Adds a playing timer to the schedule.
+     *
+     * @param timer the timer, with its next due time set
+     */
+    void schedule(GameTimer timer) {
+        timer.started(sequence++);
+        place(timer);
+    }
+
+    /**
+     * Removes a timer from the schedule.
+     *
+     * @param timer the timer
+     */
+    void cancel(GameTimer timer) {
+        if (timer.queued) {
+            ready.remove(timer);
+            timer.queued = false;
+        } else if (timer.wheelSlot >= 0) {
+            wheel.remove(timer);
+        }
+    }
+
+    // Puts a timer in the wheel, or straight in the ready queue if it falls due within the
+    // slot currently being processed, which the wheel has already been scanned for.
+    private void place(GameTimer timer) {
+        if (processingSlot >= 0 && TimingWheel.slotOf(timer.getNextDue()) <= processingSlot
+                && timer.getNextDue() <= processingUntil) {
+            enqueue(timer);
+        } else {
+            wheel.add(timer);
+        }
+    }
+
+    private void enqueue(GameTimer timer) {
+        timer.queued = true;
+        ready.add(timer);
+    }
+}
@@ -0,0 +1,221 @@
+package Application.Clock;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit Test suite for the {@link GameClock} and {@link GameTimer} classes.
+ * <p>
+ * This class verifies that timers fire on game time in the right order and the right number
+ * of times, that pause and stop behave like their {@code Timeline} counterparts, and that
+ * clock descriptions select the right variant.
+ * </p>
+ * <p>
+ * <b>Testing Approach:</b> Black-box testing with a manual clock, which needs no JavaFX toolkit.
+ * </p>
+ *
+ * <b>Test Category:</b> Unit Testing (Game Timing)<br>
+ * <b>Automation:</b> Automated using JUnit<br>
+ * <b>Requirement:</b> Gameplay timers must be deterministic when driven by a virtual clock.<br>
+ */
+public class GameClockTest {
+
+    private GameClock clock;
+    private List<String> fired;
+
+    /**
+     * Prepares a fresh manual clock and an empty firing log before each test.
+     */
+    @Before
+    public void setUp() {
+        clock = GameClock.manual();
+        fired = new ArrayList<>();
+    }
+
+    /**
+     * Test Case Name: Timers Fire In Time Order
+     * <p><b>Test Case Description:</b> One large step fires every due run of every timer, interleaved by time.</p>
+     */
+    @Test
+    public void testTimersFireInTimeOrder() {
+        clock.every(500, () -> fired.add("stat@" + clock.now())).play();
+        clock.every(1000, () -> fired.add("play@" + clock.now())).play();
+
+        clock.advance(2000);
+        assertEquals(List.of("stat@500", "stat@1000", "play@1000", "stat@1500", "stat@2000", "play@2000"), fired);
+        assertEquals(2000, clock.now());
+    }
+
+    /**
+     * Test Case Name: Pause Keeps Phase
+     * <p><b>Test Case Description:</b> A paused timer resumes with the time it had left; a stopped one waits a full period.</p>
+     */
+    @Test
+    public void testPauseKeepsPhase() {
+        GameTimer timer = clock.every(1000, () -> fired.add("tick@" + clock.now()));
+        timer.play();
+        clock.advance(700);
+        timer.pause();
+        assertFalse(timer.isRunning());
+        clock.advance(5000);
+        assertTrue(fired.isEmpty());
+
+        timer.play();
+        clock.advance(300);
+        assertEquals(List.of("tick@6000"), fired);
+
+        timer.stop();
+        timer.play();
+        clock.advance(999);
+        assertEquals(1, fired.size());
+        clock.advance(1);
+        assertEquals("tick@7000", fired.get(1));
+    }
+
+    /**
+     * Test Case Name: Timer Stops Itself
+     * <p><b>Test Case Description:</b> A timer that stops itself from its action, like the parental
+     * limit, fires exactly once even inside a large step.</p>
+     */
+    @Test
+    public void testTimerStopsItself() {
+        int[] sessionSeconds = { 0 };
+        GameTimer[] playtime = new GameTimer[1];
+        playtime[0] = clock.every(1000, () -> {
+            sessionSeconds[0]++;
+            if (sessionSeconds[0] >= 30 * 60) {
+                playtime[0].stop();
+            }
+        });
+        playtime[0].play();
+
+        clock.advance(24L * 60 * 60 * 1000); // a simulated day
+        assertEquals(30 * 60, sessionSeconds[0]);
+        assertFalse(playtime[0].isRunning());
+    }
+
+    /**
+     * Test Case Name: One-Shot Chain
+     * <p><b>Test Case Description:</b> A one-shot fires once and can arm the next one-shot from its
+     * action, and the whole chain runs in order inside a single step.</p>
+     */
+    @Test
+    public void testOneShotChain() {
+        GameTimer once = clock.after(300, () -> fired.add("once@" + clock.now()));
+        assertFalse(once.isRepeating());
+        once.play();
+        clock.advance(1000);
+        assertEquals(List.of("once@300"), fired);
+        assertFalse(once.isRunning());
+
+        fired.clear();
+        long[] delays = { 50, 20, 400 };
+        int[] next = { 0 };
+        Runnable[] arm = new Runnable[1];
+        arm[0] = () -> {
+            if (next[0] < delays.length) {
+                clock.after(delays[next[0]++], () -> {
+                    fired.add("chain@" + clock.now());
+                    arm[0].run();
+                }).play();
+            }
+        };
+        arm[0].run();
+        clock.advance(10_000);
+        assertEquals(List.of("chain@1050", "chain@1070", "chain@1470"), fired);
+    }
+
+    /**
+     * Test Case Name: Clock Descriptions
+     * <p><b>Test Case Description:</b> Checks the variants selected by the duck.clock property values.</p>
+     */
+    @Test
+    public void testClockDescriptions() {
+        assertEquals(1.0, GameClock.fromSpec(null).getRate(), 0);
+        assertEquals(0.0, GameClock.fromSpec("paused").getRate(), 0);
+        assertEquals(250.0, GameClock.fromSpec("x250").getRate(), 0);
+        assertTrue(GameClock.fromSpec("manual").isManual());
+    }
+
+    /**
+     * Test Case Name: Bad Clock Description
+     * <p><b>Test Case Description:</b> An unknown description is rejected.</p>
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadClockDescription() {
+        GameClock.fromSpec("fast");
+    }
+
+    /**
+     * Test Case Name: Wheel Matches Reference
+     * <p><b>Test Case Description:</b> Timers with periods shorter than a wheel slot and longer than a
+     * revolution, played, paused and stopped at random, fire exactly when a brute-force schedule says.</p>
+     */
+    @Test
+    public void testWheelMatchesReference() {
+        Random random = new Random(17);
+        long[] periods = { 7, 50, 333, 500, 1000, 3500, 8500, 20_000, 60_000 };
+        GameTimer[] timers = new GameTimer[periods.length];
+        // Reference state: next due time per timer, or -1 when not running, and time left when paused.
+        long[] nextDue = new long[periods.length];
+        long[] remaining = periods.clone();
+        long[] startOrder = new long[periods.length];
+        long starts = 0;
+        List<String> expected = new ArrayList<>();
+        for (int t = 0; t < timers.length; t++) {
+            int id = t;
+            timers[t] = clock.every(periods[t], () -> fired.add(id + "@" + clock.now()));
+            nextDue[t] = -1;
+        }
+
+        for (int step = 0; step < 400; step++) {
+            int t = random.nextInt(timers.length);
+            switch (random.nextInt(3)) {
+                case 0:
+                    timers[t].play();
+                    if (nextDue[t] < 0) {
+                        nextDue[t] = clock.now() + remaining[t];
+                        startOrder[t] = starts++;
+                    }
+                    break;
+                case 1:
+                    timers[t].pause();
+                    if (nextDue[t] >= 0) {
+                        remaining[t] = nextDue[t] - clock.now();
+                        nextDue[t] = -1;
+                    }
+                    break;
+                default:
+                    timers[t].stop();
+                    nextDue[t] = -1;
+                    remaining[t] = periods[t];
+            }
+
+            long target = clock.now() + random.nextInt(30_000);
+            while (true) {
+                int next = -1;
+                for (int c = 0; c < timers.length; c++) {
+                    if (nextDue[c] >= 0 && nextDue[c] <= target && (next < 0 || nextDue[c] < nextDue[next]
+                            || (nextDue[c] == nextDue[next] && startOrder[c] < startOrder[next]))) {
+                        next = c;
+                    }
+                }
+                if (next < 0) {
+                    break;
+                }
+                expected.add(next + "@" + nextDue[next]);
+                nextDue[next] += periods[next];
+            }
+            clock.advance(target - clock.now());
+        }
+        assertEquals(expected, fired);
+    }
+}
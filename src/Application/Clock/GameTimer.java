@@ -0,0 +1,156 @@
+package Application.Clock;
+
+/**
+ * A repeating or one-shot action on a {@link GameClock}.
+ * <p>
+ * Timers are created stopped by {@link GameClock#every(long, Runnable)} or
+ * {@link GameClock#after(long, Runnable)}. Pausing keeps the time left until the next run, so
+ * {@link #play()} picks up where it left off; stopping resets it to a full period, as with a
+ * {@code Timeline}. A one-shot timer stops itself just before its action runs.
+ * </p>
+ */
+public final class GameTimer {
+
+    private final GameClock clock;
+    private final long periodMillis;
+    private final Runnable action;
+    private final boolean repeating;
+    private boolean running = false;
+    // Time left until the next run while not running.
+    private long remaining;
+    private long nextDue;
+    private long sequence;
+
+    // Links maintained by the clock's TimingWheel; wheelSlot is -1 while not in the wheel.
+    GameTimer wheelPrev;
+    GameTimer wheelNext;
+    int wheelSlot = -1;
+    // True while waiting in the clock's queue of timers due in the slot being processed.
+    boolean queued = false;
+
+    GameTimer(GameClock clock, long periodMillis, Runnable action, boolean repeating) {
+        this.clock = clock;
+        this.periodMillis = periodMillis;
+        this.action = action;
+        this.repeating = repeating;
+        this.remaining = periodMillis;
+    }
+
+    /**
+     * Starts or resumes the timer.
+     */
+    public void play() {
+        if (!running) {
+            running = true;
+            nextDue = clock.now() + remaining;
+            clock.schedule(this);
+        }
+    }
+
+    /**
+     * Pauses the timer, keeping the time left until the next run.
+     */
+    public void pause() {
+        if (running) {
+            running = false;
+            remaining = nextDue - clock.now();
+            clock.cancel(this);
+        }
+    }
+
+    /**
+     * Stops the timer; playing it again waits a full period before the next run.
+     */
+    public void stop() {
+        if (running) {
+            running = false;
+            clock.cancel(this);
+        }
+        remaining = periodMillis;
+    }
+
+    /**
+     * Checks whether the timer is playing.
+     *
+     * @return true if the timer is scheduled on its clock
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Checks whether the timer runs every period or only once.
+     *
+     * @return false for timers created by {@link GameClock#after(long, Runnable)}
+     */
+    public boolean isRepeating() {
+        return repeating;
+    }
+
+    /**
+     * Returns the time between runs.
+     *
+     * @return the period in game milliseconds
+     */
+    public long getPeriodMillis() {
+        return periodMillis;
+    }
+
+    /**
+     * Returns the time left until the next run.
+     *
+     * @return game milliseconds until the timer runs, or a full period if it was stopped
+     */
+    public long getRemainingMillis() {
+        return running ? nextDue - clock.now() : remaining;
+    }
+
+    /**
+     * Returns when the timer next runs.
+     *
+     * @return the game time of the next run
+     */
+    long getNextDue() {
+        return nextDue;
+    }
+
+    /**
+     * Returns the order in which the timer was last started, used to break ties.
+     *
+     * @return the start sequence number
+     */
+    long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Records when the timer was started relative to the clock's other timers.
+     *
+     * @param sequence the start sequence number
+     */
+    void started(long sequence) {
+        this.sequence = sequence;
+    }
+
+    /**
+     * Moves the timer on to its following run.
+     */
+    void rescheduled() {
+        nextDue += periodMillis;
+    }
+
+    /**
+     * Marks a one-shot timer as finished, ready to be played again from a full period.
+     */
+    void expired() {
+        running = false;
+        remaining = periodMillis;
+    }
+
+    /**
+     * Runs the action.
+     */
+    void fire() {
+        action.run();
+    }
+}
@@ -0,0 +1,35 @@
+package Application.Clock;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * Advances a driven {@link GameClock} by the real time between animation pulses.
+ * <p>
+ * The time of the last pulse is kept across stop and start, so a clock that was suspended
+ * catches up on the whole gap with its first pulse after resuming.
+ * </p>
+ */
+final class PulseDriver extends AnimationTimer {
+
+    private final GameClock clock;
+    private long lastPulse = 0;
+    // Fraction of a game millisecond carried between pulses.
+    private double carry = 0;
+
+    PulseDriver(GameClock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void handle(long now) {
+        if (lastPulse != 0) {
+            carry += (now - lastPulse) / 1_000_000.0 * clock.getRate();
+            long whole = (long) carry;
+            if (whole > 0) {
+                carry -= whole;
+                clock.advance(whole);
+            }
+        }
+        lastPulse = now;
+    }
+}
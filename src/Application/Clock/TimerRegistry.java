@@ -0,0 +1,247 @@
+package Application.Clock;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import javafx.animation.Animation;
+import javafx.animation.Timeline;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+
+/**
+ * Owns every periodic task and stat listener in the game and ties it to the screen that created it.
+ * <p>
+ * Each timer is registered under an owner, normally a gameplay screen. When the game moves on
+ * from that screen, {@link #cancel(Object)} stops all of its timers at once, so rebuilding a
+ * screen never leaves the previous copy's timers running. Listeners on observable duck stats are
+ * registered the same way, so a retired screen stops reacting to stat changes. The registry also counts how often
+ * each timer fires, which {@link #report()} summarises for spotting leaks.
+ * </p>
+ */
+public class TimerRegistry {
+
+    private final GameClock clock;
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * Creates a registry whose game timers run on a clock.
+     *
+     * @param clock the game clock
+     */
+    public TimerRegistry(GameClock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Creates a stopped game timer owned by a screen.
+     *
+     * @param owner        the screen or object the timer belongs to
+     * @param name         a short description, used in reports
+     * @param periodMillis the period in game milliseconds
+     * @param action       the action to run
+     * @return the timer
+     */
+    public GameTimer every(Object owner, String name, long periodMillis, Runnable action) {
+        Entry entry = new Entry(owner, name);
+        entry.timer = clock.every(periodMillis, () -> {
+            entry.fires++;
+            action.run();
+        });
+        entries.add(entry);
+        return entry.timer;
+    }
+
+    /**
+     * Creates a stopped one-shot game timer owned by a screen.
+     *
+     * @param owner       the screen or object the timer belongs to
+     * @param name        a short description, used in reports
+     * @param delayMillis the delay in game milliseconds
+     * @param action      the action to run
+     * @return the timer
+     */
+    public GameTimer after(Object owner, String name, long delayMillis, Runnable action) {
+        Entry entry = new Entry(owner, name);
+        entry.timer = clock.after(delayMillis, () -> {
+            entry.fires++;
+            action.run();
+        });
+        entries.add(entry);
+        return entry.timer;
+    }
+
+    /**
+     * Takes ownership of a JavaFX timeline, such as a HUD refresh or a visual effect.
+     *
+     * @param owner    the screen or object the timeline belongs to
+     * @param name     a short description, used in reports
+     * @param timeline the timeline
+     * @return the same timeline
+     */
+    public Timeline track(Object owner, String name, Timeline timeline) {
+        Entry entry = new Entry(owner, name);
+        entry.timeline = timeline;
+        entries.add(entry);
+        return timeline;
+    }
+
+    /**
+     * Attaches a listener to an observable value on behalf of a screen.
+     * <p>
+     * The listener stays attached until its owner is cancelled or it is released, and counts
+     * as running while attached. Its rate in reports is how often it actually fired.
+     * </p>
+     *
+     * @param owner      the screen or object the listener belongs to
+     * @param name       a short description, used in reports
+     * @param observable the value to watch
+     * @param listener   the listener to run on each change
+     * @return the attached listener, for use with {@link #release(Object)}
+     */
+    public InvalidationListener listen(Object owner, String name, Observable observable, InvalidationListener listener) {
+        Entry entry = new Entry(owner, name);
+        entry.observable = observable;
+        entry.listener = o -> {
+            entry.fires++;
+            listener.invalidated(o);
+        };
+        observable.addListener(entry.listener);
+        entries.add(entry);
+        return entry.listener;
+    }
+
+    /**
+     * Stops a single timer, timeline or listener and forgets it.
+     *
+     * @param timer a {@link GameTimer}, {@link Timeline} or listener from this registry
+     */
+    public void release(Object timer) {
+        for (Iterator<Entry> it = entries.iterator(); it.hasNext();) {
+            Entry entry = it.next();
+            if (entry.timer == timer || entry.timeline == timer || entry.listener == timer) {
+                entry.stop();
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Stops and forgets every timer belonging to an owner.
+     *
+     * @param owner the owner
+     * @return the number of timers cancelled
+     */
+    public int cancel(Object owner) {
+        int cancelled = 0;
+        for (Iterator<Entry> it = entries.iterator(); it.hasNext();) {
+            Entry entry = it.next();
+            if (entry.owner == owner) {
+                entry.stop();
+                it.remove();
+                cancelled++;
+            }
+        }
+        return cancelled;
+    }
+
+    /**
+     * Returns the number of registered timers that are currently running.
+     *
+     * @return the live timer count
+     */
+    public int getLiveCount() {
+        int live = 0;
+        for (Entry entry : entries) {
+            if (entry.isRunning()) {
+                live++;
+            }
+        }
+        return live;
+    }
+
+    /**
+     * Returns the number of timers registered to an owner, running or not.
+     *
+     * @param owner the owner
+     * @return the timer count
+     */
+    public int countFor(Object owner) {
+        int count = 0;
+        for (Entry entry : entries) {
+            if (entry.owner == owner) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Summarises every registered timer, one per line.
+     * <p>
+     * Each line names the owner and timer, whether it is running, and its rate in ticks per
+     * second: measured on game time for game timers and listeners, nominal for timelines.
+     * </p>
+     *
+     * @return the report
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%d timers, %d running%n", entries.size(), getLiveCount()));
+        for (Entry entry : entries) {
+            report.append(String.format("  %-10s %-18s %-8s %6.2f/s%n",
+                    entry.owner.getClass().getSimpleName(), entry.name,
+                    entry.isRunning() ? "running" : "stopped", entry.ticksPerSecond()));
+        }
+        return report.toString();
+    }
+
+    // One registered timer, timeline or listener.
+    private final class Entry {
+        private final Object owner;
+        private final String name;
+        private final long registeredAt = clock.now();
+        private GameTimer timer;
+        private Timeline timeline;
+        private Observable observable;
+        private InvalidationListener listener;
+        private long fires = 0;
+
+        private Entry(Object owner, String name) {
+            this.owner = owner;
+            this.name = name;
+        }
+
+        private boolean isRunning() {
+            if (listener != null) {
+                return observable != null;
+            }
+            return timer != null ? timer.isRunning() : timeline.getStatus() == Animation.Status.RUNNING;
+        }
+
+        private void stop() {
+            if (listener != null) {
+                if (observable != null) {
+                    observable.removeListener(listener);
+                    observable = null;
+                }
+            } else if (timer != null) {
+                timer.stop();
+            } else {
+                timeline.stop();
+            }
+        }
+
+        private double ticksPerSecond() {
+            if (timer != null || listener != null) {
+                long elapsed = clock.now() - registeredAt;
+                return elapsed > 0 ? fires * 1000.0 / elapsed : 0;
+            }
+            double cycleSeconds = timeline.getCycleDuration().toSeconds();
+            if (!isRunning() || !(cycleSeconds > 0)) {
+                return 0;
+            }
+            return timeline.getKeyFrames().size() / cycleSeconds * Math.abs(timeline.getCurrentRate());
+        }
+    }
+}
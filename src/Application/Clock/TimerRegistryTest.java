@@ -0,0 +1,120 @@
+package Application.Clock;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.beans.property.SimpleIntegerProperty;
+
+/**
+ * Unit Test suite for the {@link TimerRegistry} class.
+ * <p>
+ * This class verifies that timers are cancelled with their owning screen, that replacing a
+ * timer does not leave the old one running, that stat listeners fire only on change and are
+ * removed with their screen, and that the report reflects live timers.
+ * </p>
+ * <p>
+ * <b>Testing Approach:</b> Black-box testing with game timers on a manual clock, which needs
+ * no JavaFX toolkit.
+ * </p>
+ *
+ * <b>Test Category:</b> Unit Testing (Game Timing)<br>
+ * <b>Automation:</b> Automated using JUnit<br>
+ * <b>Requirement:</b> Navigating between screens must not accumulate running timers.<br>
+ */
+public class TimerRegistryTest {
+
+    private GameClock clock;
+    private TimerRegistry registry;
+
+    /**
+     * Prepares a fresh manual clock and registry before each test.
+     */
+    @Before
+    public void setUp() {
+        clock = GameClock.manual();
+        registry = new TimerRegistry(clock);
+    }
+
+    /**
+     * Test Case Name: Cancel With Screen
+     * <p><b>Test Case Description:</b> Rebuilding a screen many times leaves only the newest copy's timers running.</p>
+     */
+    @Test
+    public void testCancelWithScreen() {
+        int[] checks = { 0 };
+        Object previous = null;
+        for (int visit = 0; visit < 50; visit++) {
+            Object screen = new Object();
+            registry.every(screen, "angry-state", 1000, () -> checks[0]++).play();
+            registry.every(screen, "death-check", 1000, () -> { }).play();
+            if (previous != null) {
+                assertEquals(2, registry.cancel(previous));
+            }
+            previous = screen;
+        }
+        assertEquals(2, registry.getLiveCount());
+        assertEquals(2, registry.countFor(previous));
+
+        clock.advance(10_000);
+        assertEquals(10, checks[0]);
+    }
+
+    /**
+     * Test Case Name: Release Replaced Timer
+     * <p><b>Test Case Description:</b> A released timer stops firing and leaves the registry.</p>
+     */
+    @Test
+    public void testReleaseReplacedTimer() {
+        Object main = new Object();
+        GameTimer first = registry.every(main, "stats", 500, () -> { });
+        first.play();
+        registry.release(first);
+        assertFalse(first.isRunning());
+        assertEquals(0, registry.countFor(main));
+    }
+
+    /**
+     * Test Case Name: Report Tick Rates
+     * <p><b>Test Case Description:</b> The report lists each timer with its measured rate.</p>
+     */
+    @Test
+    public void testReportTickRates() {
+        Object main = new Object();
+        registry.every(main, "stats", 500, () -> { }).play();
+        clock.advance(60_000);
+        String report = registry.report();
+        assertTrue(report, report.startsWith("1 timers, 1 running"));
+        assertTrue(report, report.contains("stats"));
+        assertTrue(report, report.contains("2.00/s"));
+    }
+
+    /**
+     * Test Case Name: Listener Removed With Screen
+     * <p><b>Test Case Description:</b> A stat listener fires only when the value changes and stops once its screen is cancelled.</p>
+     */
+    @Test
+    public void testListenerRemovedWithScreen() {
+        SimpleIntegerProperty health = new SimpleIntegerProperty(10);
+        int[] updates = { 0 };
+        Object screen = new Object();
+        registry.listen(screen, "hud-health", health, o -> {
+            health.get();
+            updates[0]++;
+        });
+        assertEquals(1, registry.getLiveCount());
+
+        health.set(9);
+        health.set(9);
+        health.set(8);
+        assertEquals(2, updates[0]);
+
+        assertEquals(1, registry.cancel(screen));
+        health.set(7);
+        assertEquals(2, updates[0]);
+        assertEquals(0, registry.getLiveCount());
+    }
+}
@@ -0,0 +1,101 @@
+package Application.Clock;
+
+import java.util.function.Consumer;
+
+/**
+ * A hashed timing wheel holding the scheduled timers of a {@link GameClock}.
+ * <p>
+ * Time is divided into slots of {@link #SLOT_MILLIS}; a timer lives in the slot its due time
+ * hashes to, on an intrusive doubly linked list, so adding and removing a timer are O(1) however
+ * many are scheduled. Timers more than one revolution away share a slot with nearer ones and
+ * are simply passed over until their own revolution comes round.
+ * </p>
+ */
+final class TimingWheel {
+
+    /** Width of one slot in game milliseconds. */
+    static final long SLOT_MILLIS = 50;
+
+    // A power of two, so a slot index is a mask of the slot number; 12.8 s per revolution.
+    private static final int SLOT_COUNT = 256;
+
+    private final GameTimer[] heads = new GameTimer[SLOT_COUNT];
+    private int size = 0;
+
+    /**
+     * Returns the slot number, counted from time 0, that a game time falls into.
+     *
+     * @param millis the game time
+     * @return the slot number
+     */
+    static long slotOf(long millis) {
+        return millis / SLOT_MILLIS;
+    }
+
+    /**
+     * Adds a timer at the slot of its next due time.
+     *
+     * @param timer a timer not currently in the wheel
+     */
+    void add(GameTimer timer) {
+        int slot = (int) (slotOf(timer.getNextDue()) & (SLOT_COUNT - 1));
+        GameTimer head = heads[slot];
+        timer.wheelSlot = slot;
+        timer.wheelPrev = null;
+        timer.wheelNext = head;
+        if (head != null) {
+            head.wheelPrev = timer;
+        }
+        heads[slot] = timer;
+        size++;
+    }
+
+    /**
+     * Removes a timer from the wheel.
+     *
+     * @param timer a timer currently in the wheel
+     */
+    void remove(GameTimer timer) {
+        if (timer.wheelPrev != null) {
+            timer.wheelPrev.wheelNext = timer.wheelNext;
+        } else {
+            heads[timer.wheelSlot] = timer.wheelNext;
+        }
+        if (timer.wheelNext != null) {
+            timer.wheelNext.wheelPrev = timer.wheelPrev;
+        }
+        timer.wheelPrev = null;
+        timer.wheelNext = null;
+        timer.wheelSlot = -1;
+        size--;
+    }
+
+    /**
+     * Returns the number of timers in the wheel.
+     *
+     * @return the timer count
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Moves every timer due in one slot, and no later than a limit, to a collector.
+     *
+     * @param slot      the slot number to expire
+     * @param until     the latest due time to expire
+     * @param collector receives each expired timer after it has left the wheel
+     */
+    void expire(long slot, long until, Consumer<GameTimer> collector) {
+        GameTimer timer = heads[(int) (slot & (SLOT_COUNT - 1))];
+        while (timer != null) {
+            GameTimer next = timer.wheelNext;
+            // Timers from later revolutions share the slot and stay put.
+            if (slotOf(timer.getNextDue()) == slot && timer.getNextDue() <= until) {
+                remove(timer);
+                collector.accept(timer);
+            }
+            timer = next;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package Application.Components;
+
+import Application.Clock.GameTimer;
+import Application.Clock.TimerRegistry;
+import Application.Duck;
+import javafx.scene.Node;
+import javafx.scene.effect.ColorAdjust;
+
+/**
+ * Tints a screen's background to match the hour of the duck's day.
+ * <br><br>
+ * One {@link ColorAdjust} is built per hour when the class loads and shared by every screen,
+ * so changing the tint only swaps a reference. Full daylight uses no effect at all. The tint
+ * is checked once a second on game time and only touches the node when the hour changes.
+ */
+public final class DayNightTint {
+
+    // Effect for each hour of the day; null while it is fully light.
+    private static final ColorAdjust[] TINTS = new ColorAdjust[24];
+    static {
+        for (int hour = 0; hour < TINTS.length; hour++) {
+            double dark = darkness(hour);
+            if (dark > 0) {
+                // Dusk and dawn lean warm; deep night leans blue.
+                double hue = dark < 1 ? 0.05 * dark : -0.1;
+                TINTS[hour] = new ColorAdjust(hue, -0.35 * dark, -0.45 * dark, 0);
+            }
+        }
+    }
+
+    private DayNightTint() {
+    }
+
+    /**
+     * Retrieves the shared tint for an hour.
+     *
+     * @param hour the hour of the day, from 0 to 23
+     * @return the effect, or null for full daylight
+     */
+    public static ColorAdjust forHour(int hour) {
+        return TINTS[Math.floorMod(hour, TINTS.length)];
+    }
+
+    /**
+     * Keeps a background tinted to the duck's hour for as long as its screen is shown.
+     *
+     * @param registry   the registry the checking timer is owned through
+     * @param owner      the screen the background belongs to
+     * @param background the node to tint, normally a background layer behind the controls
+     * @param duck       the duck whose day is shown
+     * @return the running timer, cancelled with the rest of the screen's timers
+     */
+    public static GameTimer bind(TimerRegistry registry, Object owner, Node background, Duck duck) {
+        background.setEffect(forHour(duck.getHour()));
+        GameTimer timer = registry.every(owner, "day-tint", 1000, () -> {
+            ColorAdjust tint = forHour(duck.getHour());
+            if (background.getEffect() != tint) {
+                background.setEffect(tint);
+            }
+        });
+        timer.play();
+        return timer;
+    }
+
+    // How dark an hour is, from 0 at full daylight to 1 at night.
+    private static double darkness(int hour) {
+        if (hour >= 8 && hour < 18) {
+            return 0;
+        }
+        if (hour >= 22 || hour < 5) {
+            return 1;
+        }
+        if (hour < 8) {
+            return (8 - hour) / 4.0; // 05:00 to 07:00 brightening
+        }
+        return (hour - 17) / 5.0; // 18:00 to 21:00 darkening
+    }
+}
@@ -1,11 +1,8 @@
 package Application;
 
-import java.lang.reflect.Field;
-
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
-import static org.junit.Assert.fail;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -28,30 +25,9 @@ public class DuckTest {
 
     private Duck duck;
 
-    static {
-        new javafx.embed.swing.JFXPanel(); // Initialize JavaFX for testing environment
-    }
-
-    private static class DummyTimer extends com.sun.glass.ui.Timer {
-        public DummyTimer() { super(() -> {}); }
-        @Override protected long _start(Runnable runnable, int priority) { return 0L; }
-        @Override protected long _start(Runnable runnable) { return 0L; }
-        @Override protected void _stop(long time) {}
-        @Override protected void _pause(long time) {}
-        @Override protected void _resume(long time) {}
-    }
-
     private class TestDuck extends Duck {
         public TestDuck(String name) {
             super(name);
-            try {
-                Field timerField = Duck.class.getDeclaredField("pulseTimer");
-                timerField.setAccessible(true);
-                timerField.set(this, new DummyTimer());
-            } catch (Exception e) {
-                e.printStackTrace();
-                fail("Failed to inject DummyTimer: " + e.getMessage());
-            }
         }
     }
 
@@ -0,0 +1,259 @@
+package Application;
+
+import Application.Sprites.AnimationClip;
+import Application.Sprites.SpriteAnimation;
+import Application.Sprites.AnimationRegistry;
+import Application.Sprites.SpriteFrameBuffer;
+import Application.Sprites.SpriteFrames;
+import javafx.beans.InvalidationListener;
+import javafx.scene.image.ImageView;
+
+/**
+ * The on-screen presentation of a {@link Duck}: its ImageView and sprite animations.
+ * <p>
+ * A view is only created when a duck is actually shown, so ducks that are loaded just for
+ * their stats (save lists, parental controls, simulations) never allocate JavaFX objects.
+ * The view reads the duck's colour from its model and listens to the model's colour and
+ * living state, so the duck itself never refers to its view.
+ * </p>
+ */
+public class DuckView {
+
+    // Clip ids in the shared animation registry
+    private static final String IDLE = "idle";
+    private static final String WALK = "walk";
+    private static final String EAT = "eat";
+    private static final String SLEEP = "sleep";
+    private static final String GIFT = "gift";
+    private static final String DEAD = "dead";
+
+    private final Duck duck;
+    // Restarts the idle animation in the duck's new colour
+    private final InvalidationListener colourListener = o -> updateAnimationByColour();
+    // Lets the dead animation play again once the duck is revived
+    private final InvalidationListener livingListener;
+
+    // JavaFX ImageView to display the duck and the sprite animation currently playing on it
+    private final ImageView duckImageView;
+    private SpriteAnimation duckAnimation;
+    private boolean isDeadAnimationPlayed = false; // Tracks if dead animation has already been played
+
+    // Buffer rendering copies each frame into one fixed image instead of moving a viewport.
+    // Enabled for every new view with -Dduck.pixelBuffer=true.
+    private boolean pixelBufferRendering = Boolean.getBoolean("duck.pixelBuffer");
+    private SpriteFrameBuffer frameBuffer;
+
+    /**
+     * Creates the view for a duck and starts its idle animation.
+     *
+     * @param duck the duck model to present
+     */
+    public DuckView(Duck duck) {
+        this.duck = duck;
+        this.livingListener = o -> {
+            if (!duck.isDead()) {
+                resetDeadAnimation();
+            }
+        };
+        duck.colourProperty().addListener(colourListener);
+        duck.deadProperty().addListener(livingListener);
+
+        // Initialize the ImageView and configure its properties
+        this.duckImageView = new ImageView();
+        this.duckImageView.setFitWidth(200);
+        this.duckImageView.setFitHeight(200);
+        this.duckImageView.setPreserveRatio(true);
+        this.duckImageView.setSmooth(true);
+        // Adjust vertical translation for display purposes
+        this.duckImageView.setTranslateY(80);
+
+        // Set the initial animation based on colour
+        updateAnimationByColour();
+    }
+
+    /**
+     * Retrieves the duck this view presents.
+     *
+     * @return the duck model
+     */
+    public Duck getDuck() {
+        return duck;
+    }
+
+    /**
+     * Stops the view's animation and detaches it from its duck, for when another duck is shown.
+     */
+    public void dispose() {
+        stopAnimation();
+        duck.colourProperty().removeListener(colourListener);
+        duck.deadProperty().removeListener(livingListener);
+    }
+
+    /**
+     * Retrieves the ImageView displaying the duck.
+     *
+     * @return the ImageView associated with the duck
+     */
+    public ImageView getDuckImageView() {
+        return duckImageView;
+    }
+
+    /**
+     * Starts the dead animation sequence if it has not already been played.
+     * <p>
+     * This method checks if the dead animation has been played. If not, it stops any current animation
+     * and plays each dead frame once in the duck's colour, leaving the final frame on screen.
+     * </p>
+     */
+    public void startDeadAnimation() {
+        // Exit if the dead animation was already played
+        if (isDeadAnimationPlayed) {
+            return;
+        }
+        // Mark the animation as played
+        isDeadAnimationPlayed = true;
+
+        // Play the frames once; the animator leaves the final frame on screen when it finishes
+        play(DEAD);
+    }
+
+    /**
+     * Allows the dead animation to play again, called when the duck comes back to life.
+     */
+    public void resetDeadAnimation() {
+        isDeadAnimationPlayed = false;
+    }
+
+    /**
+     * Starts the animation sequence for when the duck is receiving a gift.
+     * <p>
+     * The animation plays twice in the duck's colour and then reverts back to the default animation.
+     * </p>
+     */
+    public void startReceivingGiftAnimation() {
+        // Play the animation twice, then revert to the default animation based on colour
+        play(GIFT);
+    }
+
+    /**
+     * Starts the eating animation sequence for the duck.
+     * <p>
+     * The eating animation plays twice and then reverts back to the default animation.
+     * </p>
+     */
+    public void startEatingAnimation() {
+        // Play the animation twice, then revert back to the default animation
+        play(EAT);
+    }
+
+    /**
+     * Starts the sleeping animation sequence for the duck.
+     * <p>
+     * Plays the sleeping animation once and then reverts back to the default animation.
+     * </p>
+     */
+    public void startSleepingAnimation() {
+        // Play one full cycle, then revert to the default animation
+        play(SLEEP);
+    }
+
+    /**
+     * Starts the walking animation sequence for the duck.
+     * <p>
+     * Plays the walking animation frames in the duck's colour.
+     * </p>
+     */
+    public void startWalkingAnimation() {
+        // Play the walking frames, recoloured for the duck's colour
+        play(WALK);
+    }
+
+    /**
+     * Stops the walking animation and reverts to the idle (default) animation.
+     */
+    public void stopWalkingAnimation() {
+        // Revert to the default idle animation based on the duck's colour
+        updateAnimationByColour();
+    }
+
+    /**
+     * Updates the default animation of the duck based on its current colour.
+     * <p>
+     * Plays the idle frames, recoloured with the palette for the duck's colour.
+     * </p>
+     */
+    public void updateAnimationByColour() {
+        play(IDLE);
+    }
+
+    /**
+     * Stops whatever animation is playing, leaving the current frame on screen.
+     */
+    public void stopAnimation() {
+        if (duckAnimation != null) {
+            duckAnimation.stop();
+        }
+    }
+
+    /**
+     * Checks whether the duck's ImageView is drawn through a pixel buffer.
+     *
+     * @return true if frames are copied into a shared frame buffer
+     */
+    public boolean isPixelBufferRendering() {
+        return pixelBufferRendering;
+    }
+
+    /**
+     * Switches how the duck's ImageView is drawn.
+     * <p>
+     * In pixel buffer mode the view shows a single image backed by a direct buffer and each
+     * frame is copied into it, so long-running animations keep a fixed memory footprint.
+     * Otherwise the view shows the sprite atlas and frames move its viewport. The current
+     * state's animation is restarted in the new mode.
+     * </p>
+     *
+     * @param enabled true to render through a pixel buffer
+     */
+    public void setPixelBufferRendering(boolean enabled) {
+        if (pixelBufferRendering == enabled) {
+            return;
+        }
+        pixelBufferRendering = enabled;
+        if (Boolean.TRUE.equals(duck.isDead())) {
+            isDeadAnimationPlayed = false;
+            startDeadAnimation();
+        } else {
+            updateAnimationByColour();
+        }
+    }
+
+    /**
+     * Plays a clip from the shared animation registry on the duck's ImageView.
+     * <p>
+     * Any running animation is stopped first. The clip's frames are taken from the base white
+     * sprites and recoloured with the palette for the duck's colour; the recoloured frames are
+     * shared by every duck of that colour. When the clip finishes, its next clip (if any) is played.
+     * In pixel buffer mode the frames are drawn into the view's single frame buffer.
+     * </p>
+     *
+     * @param clipId the id of the clip to play
+     */
+    private void play(String clipId) {
+        stopAnimation();
+        AnimationClip clip = AnimationRegistry.get().clip(clipId);
+        SpriteFrames frames = clip.frames(duck.getColour());
+        if (pixelBufferRendering) {
+            if (frameBuffer == null) {
+                frameBuffer = new SpriteFrameBuffer((int) frames.region(0).getWidth(), (int) frames.region(0).getHeight());
+            }
+            frames = frames.renderedInto(frameBuffer);
+        }
+        duckAnimation = clip.createAnimation(duckImageView, frames);
+        if (clip.getNext() != null) {
+            String next = clip.getNext();
+            duckAnimation.setOnFinished(() -> play(next));
+        }
+        duckAnimation.play();
+    }
+}
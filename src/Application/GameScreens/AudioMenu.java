@@ -4,17 +4,12 @@ import Application.Duck;
 import Application.GameSettingsAndStats;
 import Application.Inventory;
 import Application.Main;
+import Application.Sprites.SpriteLevels;
 import javafx.geometry.Insets;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.Slider;
-import javafx.scene.image.Image;
-import javafx.scene.layout.Background;
-import javafx.scene.layout.BackgroundImage;
-import javafx.scene.layout.BackgroundPosition;
-import javafx.scene.layout.BackgroundRepeat;
-import javafx.scene.layout.BackgroundSize;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.media.MediaPlayer;
@@ -94,19 +89,9 @@ public class AudioMenu {
         controlBox.getChildren().addAll(volumeLabel, volumeSlider, backButton);
         controlBox.setStyle("-fx-alignment: center;"); // Center-align the VBox
 
-        // Set the background image
-        Image backgroundImage = new Image("file:src/assets/pausemenu.png");
-        BackgroundImage background = new BackgroundImage(
-            backgroundImage,
-            BackgroundRepeat.NO_REPEAT,
-            BackgroundRepeat.NO_REPEAT,
-            BackgroundPosition.CENTER,
-            new BackgroundSize(BackgroundSize.AUTO, BackgroundSize.AUTO, false, false, true, true)
-        );
-
         // Create the main layout
         BorderPane layout = new BorderPane();
-        layout.setBackground(new Background(background));
+        SpriteLevels.bindBackground(layout, "file:src/assets/pausemenu.png");
         layout.setCenter(controlBox);
 
         // Create the scene
@@ -0,0 +1,36 @@
+package Application.GameScreens;
+
+import javafx.scene.Scene;
+
+/**
+ * A gameplay screen that is built once per session and shown many times.
+ * <br><br>
+ * The {@link ScreenRouter} keeps one instance of each screen. Building a screen lays out its
+ * nodes and loads its images; everything that must happen on each visit, such as starting
+ * timers and listeners or reclaiming shared nodes like the duck's sprite, belongs in
+ * {@link #onShow()}. Timers and listeners the screen registers under itself are cancelled
+ * automatically when it is hidden.
+ */
+public interface GameScreen {
+
+    /**
+     * Returns the JavaFX scene of the screen.
+     *
+     * @return The scene.
+     */
+    Scene getScene();
+
+    /**
+     * Called each time the screen becomes the active gameplay screen.
+     */
+    default void onShow() {
+    }
+
+    /**
+     * Called when the game moves on from the screen, before its timers are cancelled.
+     * <br><br>
+     * Menus opened on top of the screen, such as the pause menu, do not hide it.
+     */
+    default void onHide() {
+    }
+}
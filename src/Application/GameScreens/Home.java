@@ -1,29 +1,24 @@
 package Application.GameScreens;
 
+import Application.Components.DayNightTint;
 import Application.Components.PauseButton;
 import Application.Duck;
 import Application.GameSettingsAndStats;
+import Application.Hud;
 import Application.Inventory;
 import Application.Main;
 import Application.SaveLoad;
-import Application.UserInterface;
-import javafx.animation.KeyFrame;
+import Application.Sprites.AnimatedBackground;
 import javafx.animation.PauseTransition;
-import javafx.animation.Timeline;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
-import javafx.scene.layout.Background;
-import javafx.scene.layout.BackgroundImage;
-import javafx.scene.layout.BackgroundPosition;
-import javafx.scene.layout.BackgroundRepeat;
-import javafx.scene.layout.BackgroundSize;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.util.Duration;
@@ -36,7 +31,7 @@ import javafx.util.Duration;
  * such as the Vet, Park, and Store. This class also continuously checks the pet's status (e.g., anger,
  * health, and death) and updates the UI accordingly.
  */
-public class Home {
+public class Home implements GameScreen {
     // Variable initializations and declarations
     private Scene scene;
     private Duck pet;
@@ -45,13 +40,17 @@ public class Home {
     private Button feedPetButton, petPlayButton, giveGiftButton, sleepButton;
     private Button vetButton, parkButton, storeButton;
     private Label popupLabel;
+    private Label angryStateLabel;
     private PauseTransition popupDelay;
     private boolean statsStopped = false;
+    private Hud userInterface;
+    private Pane backgroundLayer;
+    private StackPane duckLayer;
 
     /**
      * Constructs the Home screen and initializes the UI components, animations, and event handlers.
-     * The constructor always fetches the updated global state from the Main object, sets up UI elements,
-     * and starts background processes such as stats tracking and coin generation.
+     * The constructor always fetches the updated global state from the Main object and sets up UI elements.
+     * Background processes such as stats tracking and coin generation start in {@link #onShow()}.
      *
      * @param main            The main application instance containing the global state and scene management.
      * @param petIgnored      Ignored parameter; the current pet is fetched from the main instance.
@@ -67,19 +66,9 @@ public class Home {
         Inventory inventory = main.getInventory();
         GameSettingsAndStats settings = main.getSettings();
         this.pet = pet;
-    
-        // Initialize pet stats tracking
-        main.initializeStatsTracking(pet);
-
-        // Save the current game state (pet, inventory, settings)
-        SaveLoad save = new SaveLoad();
-        save.saveAllData(pet, inventory, settings);
 
         // Initialize the user interface with current settings and pet data
-        final UserInterface userInterface = new UserInterface(settings, pet, main.getCoinLabel());
-        main.startStatsTracking();
-        main.updateUserInterface(userInterface);
-        main.startCoinGeneration();
+        userInterface = Hud.create(settings, pet, main.getCoinLabel());
         
         // Initialize control buttons for pet interactions
         feedPetButton = new Button("(F)eed Pet");
@@ -97,38 +86,12 @@ public class Home {
         popupLabel.setTranslateY(50);
 
         // Setup a label to indicate when the pet is angry
-        Label angryStateLabel = new Label();
+        angryStateLabel = new Label();
         angryStateLabel.setStyle("-fx-background-color: rgba(255, 0, 0, 0.75); -fx-text-fill: white; -fx-font-size: 18px; -fx-padding: 10 20; -fx-background-radius: 10;");
         angryStateLabel.setVisible(false);
         StackPane.setAlignment(angryStateLabel, Pos.TOP_CENTER);
         angryStateLabel.setTranslateY(-50);
 
-        // Create a timeline to update the pet's angry state every second
-        Timeline angryStateUpdater = new Timeline(new KeyFrame(Duration.seconds(1), e -> {
-            // Check if pet is angry and update the angry state label
-            boolean isAngry = pet.isAngry();
-            angryStateLabel.setVisible(isAngry);
-        
-            if (isAngry) {
-                angryStateLabel.setText("Your pet is angry!");
-                // If pet just became angry, show a popup message with advice
-                if (!wasAngry) {
-                    popupLabel.setText("Your pet is angry! Try playing, giving a gift, or taking it for a walk.");
-                    popupLabel.setVisible(true);
-                    popupDelay.playFromStart();
-                }
-            }
-            // Update the flag for previous angry state
-            wasAngry = isAngry;
-        }));
-        angryStateUpdater.setCycleCount(Timeline.INDEFINITE);
-        angryStateUpdater.play();
-        
-        // Create a timeline to check if the pet has died every second
-        Timeline deathStateChecker = new Timeline(new KeyFrame(Duration.seconds(1), e -> checkIfPetDied()));
-        deathStateChecker.setCycleCount(Timeline.INDEFINITE);
-        deathStateChecker.play();
-
         // Setup a pause transition to hide the popup label after 2 seconds
         popupDelay = new PauseTransition(Duration.seconds(2));
         popupDelay.setOnFinished(event -> popupLabel.setVisible(false));
@@ -143,15 +106,14 @@ public class Home {
                 inventory.setFood(-1);
                 pet.setHunger(1);
                 popupLabel.setText("Fed your pet!");
-                pet.startEatingAnimation();
+                main.getDuckView().startEatingAnimation();
             } else {
                 // Inform user if pet is too full or there is no food left
                 popupLabel.setText(pet.getHunger() == 10 ? "Pet is too full to eat!" : "No food left!");
             }
-            // Show popup and update hunger display
+            // Show popup; the hunger display follows the pet's stats
             popupLabel.setVisible(true);
             popupDelay.playFromStart();
-            userInterface.updateHunger();
             checkIfPetDied();
         });
 
@@ -166,10 +128,9 @@ public class Home {
                 // Inform user if pet is too excited or no toy is available
                 popupLabel.setText(pet.getHappiness() > 90 ? "Pet is too excited to play!" : "No toy left!");
             }
-            // Show popup and update stats display
+            // Show popup; the stats display follows the pet's stats
             popupLabel.setVisible(true);
             popupDelay.playFromStart();
-            userInterface.updateStatsDisplay();
             checkIfPetDied();
         });
 
@@ -180,15 +141,14 @@ public class Home {
                 inventory.setNightCap(-1);
                 pet.setTiredness(0 - pet.getTiredness());
                 popupLabel.setText("Gift given to pet! Your pet is no longer tired!");
-                pet.startReceivingGiftAnimation();
+                main.getDuckView().startReceivingGiftAnimation();
             } else {
                 // Inform user if no night cap is available or pet is not tired
                 popupLabel.setText(inventory.getNightCap() == 0 ? "No night cap left!" : "Pet is already well-rested!");
             }
-            // Show popup and update stats display
+            // Show popup; the stats display follows the pet's stats
             popupLabel.setVisible(true);
             popupDelay.playFromStart();
-            userInterface.updateStatsDisplay();
             checkIfPetDied();
         });
 
@@ -201,31 +161,24 @@ public class Home {
                 // Allow sleep if pet is sufficiently tired and reset tiredness
                 pet.setTiredness(0 - pet.getTiredness());
                 popupLabel.setText("Pet took a nap!");
-                pet.startSleepingAnimation();
+                main.getDuckView().startSleepingAnimation();
             } else {
                 // Inform user if pet is not tired enough
                 popupLabel.setText("Pet is not tired enough to sleep!");
             }
-            // Show popup and update stats display
+            // Show popup; the stats display follows the pet's stats
             popupLabel.setVisible(true);
             popupDelay.playFromStart();
-            userInterface.updateStatsDisplay();
             checkIfPetDied();
         });
 
-        // Setup the background image for the home screen
-        var backgroundImage = new Image("file:src/assets/homeBackground.gif");
-        BackgroundImage background = new BackgroundImage(
-            backgroundImage,
-            BackgroundRepeat.NO_REPEAT,
-            BackgroundRepeat.NO_REPEAT,
-            BackgroundPosition.CENTER,
-            new BackgroundSize(BackgroundSize.AUTO, BackgroundSize.AUTO, false, false, true, true)
-        );
+        // Play the shared, pre-decoded home background on its own layer so it can be tinted
+        // for the time of day without tinting the controls laid over it
+        backgroundLayer = new Pane();
+        AnimatedBackground.bind(backgroundLayer, "file:src/assets/homeBackground.gif");
 
-        // Create a border pane layout and set the background image
+        // Create a border pane layout for the controls
         BorderPane layout = new BorderPane();
-        layout.setBackground(new Background(background));
 
         // Create and configure the pause button and add it to the top bar
         PauseButton pauseButton = new PauseButton(main, pet, inventory, settings);
@@ -259,7 +212,7 @@ public class Home {
             } else {
                 // Stop pet stats tracking and navigate to the Vet screen
                 main.stopStatsTracking(pet);
-                main.setScene(new Vet(main).getScene());
+                main.getScreenRouter().show(Vet.class);
             }
         });
 
@@ -274,7 +227,7 @@ public class Home {
         parkButton.setOnAction(e -> {
             // Stop pet stats tracking and navigate to the Park screen
             main.stopStatsTracking(pet);
-            main.setScene(new Park(main).getScene());
+            main.getScreenRouter().show(Park.class);
         });
         // Position the Park button on the right side of the screen
         StackPane.setAlignment(parkButton, Pos.CENTER_RIGHT);
@@ -288,7 +241,7 @@ public class Home {
         storeButton.setOnAction(e -> {
             // Allow navigation to the Store even if the pet is angry
             main.stopStatsTracking(pet);
-            main.setScene(new Store(main).getScene());
+            main.getScreenRouter().show(Store.class);
         });
         
         // Position the Store button on the right side of the screen
@@ -296,12 +249,9 @@ public class Home {
         storeButton.setTranslateX(-20);
         storeButton.setTranslateY(80);
 
-        // Retrieve the pet's image view and prepare its display layer
-        ImageView duckImageView = pet.getDuckImageView();
-        StackPane duckLayer = new StackPane(duckImageView);
+        // Prepare the display layer for the pet's image view, which is placed in it on each visit
+        duckLayer = new StackPane();
         duckLayer.setMouseTransparent(true);
-        StackPane.setAlignment(duckImageView, Pos.BOTTOM_CENTER);
-        duckImageView.setTranslateY(-30);
 
         // Setup the user interface layer and configure its alignment and transparency
         StackPane uiLayer = new StackPane(userInterface.getScene().getRoot());
@@ -313,15 +263,10 @@ public class Home {
         StackPane.setAlignment(inventoryLayer, Pos.TOP_LEFT);
         inventoryLayer.setMouseTransparent(true);
 
-        // Perform an initial check to see if the pet is dead
-        checkIfPetDied();
-        
-        // Save game state after initializing the UI
-        save.saveAllData(pet, main.getInventory(), main.getSettings());
-
         // Combine all layers and UI elements into a single home screen layout
         StackPane homeScreen = new StackPane();
         homeScreen.getChildren().addAll(
+            backgroundLayer,
             layout,
             duckLayer,
             uiLayer,
@@ -343,10 +288,74 @@ public class Home {
      *
      * @return The scene of the home screen.
      */
+    @Override
     public Scene getScene() {
         return scene;
     }
 
+    /**
+     * Starts the per-visit work of the home screen.
+     * <br><br>
+     * Each visit saves the game once, restarts stats tracking and coin generation, reclaims the
+     * pet's image view from the screen that showed it last, and listens for the pet becoming
+     * angry or dying. The listeners are removed when the player leaves this screen. The Store,
+     * Park and Vet screens are then preloaded so their first visit does not stall.
+     */
+    @Override
+    public void onShow() {
+        // Initialize pet stats tracking and save the current game state (pet, inventory, settings)
+        main.initializeStatsTracking(pet);
+        new SaveLoad().saveAllData(pet, main.getInventory(), main.getSettings());
+        main.startStatsTracking();
+        main.updateUserInterface(this, pet, userInterface);
+        main.startCoinGeneration();
+        userInterface.onShow();
+
+        // Place the pet's image view, which other screens also show, back on this screen
+        ImageView duckImageView = main.getDuckView().getDuckImageView();
+        duckLayer.getChildren().setAll(duckImageView);
+        StackPane.setAlignment(duckImageView, Pos.BOTTOM_CENTER);
+        duckImageView.setTranslateX(0);
+        duckImageView.setTranslateY(-30);
+
+        // Tint the background for the time of day
+        DayNightTint.bind(main.getTimerRegistry(), this, backgroundLayer, pet);
+
+        // Update the pet's angry state whenever its happiness changes
+        main.getTimerRegistry().listen(this, "angry-state", pet.happinessProperty(), o -> updateAngryState());
+
+        // Check whether the pet has died as soon as its living state changes
+        main.getTimerRegistry().listen(this, "death-check", pet.deadProperty(), o -> checkIfPetDied());
+
+        // Show the current state straight away
+        updateAngryState();
+        checkIfPetDied();
+
+        // Decode and build the screens reachable from here while the player is at home
+        main.getScreenRouter().preload(Store.class, Park.class, Vet.class);
+    }
+
+    /**
+     * Shows or hides the angry state label, with a popup of advice when the pet has just become angry.
+     */
+    private void updateAngryState() {
+        // Check if pet is angry and update the angry state label
+        boolean isAngry = pet.isAngry();
+        angryStateLabel.setVisible(isAngry);
+
+        if (isAngry) {
+            angryStateLabel.setText("Your pet is angry!");
+            // If pet just became angry, show a popup message with advice
+            if (!wasAngry) {
+                popupLabel.setText("Your pet is angry! Try playing, giving a gift, or taking it for a walk.");
+                popupLabel.setVisible(true);
+                popupDelay.playFromStart();
+            }
+        }
+        // Update the flag for previous angry state
+        wasAngry = isAngry;
+    }
+
     /**
      * Checks whether the pet has died by evaluating its health or dead status.
      * If the pet is dead, this method disables all interactive buttons, displays a death message,
@@ -372,7 +381,7 @@ private void checkIfPetDied() {
         popupDelay.playFromStart();
 
         // Start the pet's death animation
-        pet.startDeadAnimation();
+        main.getDuckView().startDeadAnimation();
 
         // Mark pet as dead if it is not already to avoid repeated actions
         if (!pet.isDead()) {
@@ -7,18 +7,13 @@ import Application.GameSettingsAndStats;
 import Application.Inventory;
 import Application.Main;
 import Application.SaveLoad;
+import Application.Sprites.SpriteLevels;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.effect.DropShadow;
-import javafx.scene.image.Image;
-import javafx.scene.layout.Background;
-import javafx.scene.layout.BackgroundImage;
-import javafx.scene.layout.BackgroundPosition;
-import javafx.scene.layout.BackgroundRepeat;
-import javafx.scene.layout.BackgroundSize;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
@@ -51,20 +46,9 @@ public class LoadSaves {
         // Load all saved game states into a HashMap (each save contains an array of objects)
         HashMap<String, Object[]> saves = saveLoad.loadAllSaves(); // Using HashMap instead of Map
 
-        // Load the background image from the assets folder
-        Image backgroundImage = new Image("file:src/assets/menu.png");
-        // Create a BackgroundImage with no repeat and centered position
-        BackgroundImage background = new BackgroundImage(
-            backgroundImage,
-            BackgroundRepeat.NO_REPEAT,
-            BackgroundRepeat.NO_REPEAT,
-            BackgroundPosition.CENTER,
-            new BackgroundSize(BackgroundSize.AUTO, BackgroundSize.AUTO, false, false, true, true)
-        );
-
         // Create a BorderPane layout and set the created background
         BorderPane layout = new BorderPane();
-        layout.setBackground(new Background(background));
+        SpriteLevels.bindBackground(layout, "file:src/assets/menu.png");
 
         // Create a title label for the screen
         Label title = new Label("Select a Saved Duck");
@@ -110,10 +94,8 @@ public class LoadSaves {
                 main.updateGlobalState(duck, inventory, settings);
                 // Start tracking playtime for the current settings
                 main.startPlaytimeTracking(settings);
-                // Create a new Home screen using the loaded save data
-                Home home = new Home(main, duck, inventory, settings);
-                // Set the current scene to the Home screen
-                main.setScene(home.getScene());
+                // Show the Home screen, built for the loaded save data
+                main.getScreenRouter().show(Home.class);
                 // Start generating coins in the game
                 main.startCoinGeneration();
             });
@@ -6,25 +6,20 @@ import Application.GameSettingsAndStats;
 import Application.Inventory;
 import Application.Main;
 import Application.SaveLoad;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import Application.Sprites.AnimationClip;
+import Application.Sprites.AnimationRegistry;
+import Application.Sprites.SpriteAnimation;
+import Application.Sprites.SpriteLevels;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
-import javafx.scene.layout.Background;
-import javafx.scene.layout.BackgroundImage;
-import javafx.scene.layout.BackgroundPosition;
-import javafx.scene.layout.BackgroundRepeat;
-import javafx.scene.layout.BackgroundSize;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.text.TextAlignment;
-import javafx.util.Duration;
 
 /**
  * Represents the main menu screen of the DuckLyfe2 application.
@@ -241,58 +236,29 @@ public class MainMenu {
         duckImageView.setPreserveRatio(true);
         duckImageView.setSmooth(true);
 
-        // Load duck sprite frames
-
-        String[] duckFrames = {
-                "file:src/assets/duckSpriteSheet/duck030.png",
-                "file:src/assets/duckSpriteSheet/duck031.png",
-                "file:src/assets/duckSpriteSheet/duck032.png",
-                "file:src/assets/duckSpriteSheet/duck033.png",
-                "file:src/assets/duckSpriteSheet/duck034.png",
-                "file:src/assets/duckSpriteSheet/duck035.png"
-        };
-
          /**
          * Initializes and plays the duck animation on the main menu.
          * <br><br>
-         * This animation cycles through a series of duck sprite frames to create
-         * a smooth animation effect. The animation is set to loop indefinitely.
+         * This animation plays the "preview" clip from the shared animation registry, which
+         * cycles through the gift frames and pauses between loops. The animation is set to loop indefinitely.
          * <br><br>
          * Example Use:
          * <pre>
-         * Timeline duckAnimation = new Timeline();
-         * duckAnimation.getKeyFrames().add(new KeyFrame(...));
-         * duckAnimation.setCycleCount(Timeline.INDEFINITE);
+         * AnimationClip preview = AnimationRegistry.get().clip("preview");
+         * SpriteAnimation duckAnimation = preview.createAnimation(duckImageView, preview.frames("white"));
          * duckAnimation.play();
          * </pre>
          */
-        Timeline duckAnimation = new Timeline();
-        for (int i = 0; i < duckFrames.length; i++) {
-            String frame = duckFrames[i];
-            duckAnimation.getKeyFrames().add(new KeyFrame(
-                    Duration.millis(i * 200),
-                    e -> duckImageView.setImage(new Image(frame, 200, 200, true, true))
-            ));
-        }
-        duckAnimation.getKeyFrames().add(new KeyFrame(Duration.millis(duckFrames.length * 200 + 1000)));
-        duckAnimation.setCycleCount(Timeline.INDEFINITE);
+        AnimationClip previewClip = AnimationRegistry.get().clip("preview");
+        SpriteAnimation duckAnimation = previewClip.createAnimation(duckImageView, previewClip.frames("white"));
         duckAnimation.play();
 
         HBox duckContainer = new HBox(duckImageView);
         duckContainer.setStyle("-fx-alignment: center-left; -fx-padding: 0 0 0 50;");
 
-        // Set the background image
-        Image backgroundImage = new Image("file:src/assets/menu.png");
-        BackgroundImage background = new BackgroundImage(
-                backgroundImage,
-                BackgroundRepeat.NO_REPEAT,
-                BackgroundRepeat.NO_REPEAT,
-                BackgroundPosition.CENTER,
-                new BackgroundSize(BackgroundSize.AUTO, BackgroundSize.AUTO, false, false, true, true)
-        );
         // Create the main layout
         BorderPane layout = new BorderPane();
-        layout.setBackground(new Background(background));
+        SpriteLevels.bindBackground(layout, "file:src/assets/menu.png");
         layout.setLeft(duckContainer);
         layout.setCenter(menuBox);
 
@@ -300,6 +266,7 @@ public class MainMenu {
         layout.setTop(pauseButton);
 
         this.scene = new Scene(layout, 800, 600);
+        this.scene.setUserData(this); // Lets Main recognise a return to the main menu
     }
 
         /**
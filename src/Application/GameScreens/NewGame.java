@@ -5,6 +5,11 @@ import Application.GameSettingsAndStats;
 import Application.Inventory;
 import Application.Main;
 import Application.SaveLoad;
+import Application.Sprites.AnimationClip;
+import Application.Sprites.AnimationRegistry;
+import Application.Sprites.SpriteAnimation;
+import Application.Sprites.SpriteFrames;
+import Application.Sprites.SpriteLevels;
 import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
@@ -15,13 +20,8 @@ import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextInputDialog;
 import javafx.scene.effect.DropShadow;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Background;
-import javafx.scene.layout.BackgroundImage;
-import javafx.scene.layout.BackgroundPosition;
-import javafx.scene.layout.BackgroundRepeat;
-import javafx.scene.layout.BackgroundSize;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.StackPane;
@@ -46,7 +46,7 @@ public class NewGame {
     private Duck[] ducks;
     private StackPane root;
     private ImageView duckImageView;
-    private Timeline duckAnimation;
+    private SpriteAnimation duckAnimation;
     private Label duckNameLabel;
     private Label duckDescriptionLabel;
     private HBox animationBox;
@@ -138,21 +138,10 @@ public class NewGame {
         bottomContainer.setAlignment(Pos.CENTER);
         bottomContainer.setPadding(new Insets(0, 0, 40, 0));
 
-        // ----------------- Background Setup -----------------
-        // Load and set the background image for the NewGame screen.
-        Image backgroundImage = new Image("file:src/assets/menu.png");
-        BackgroundImage background = new BackgroundImage(
-            backgroundImage,
-            BackgroundRepeat.NO_REPEAT,
-            BackgroundRepeat.NO_REPEAT,
-            BackgroundPosition.CENTER,
-            new BackgroundSize(BackgroundSize.AUTO, BackgroundSize.AUTO, false, false, true, true)
-        );
-
         // ----------------- Main Layout -----------------
         // Create a BorderPane layout and assign the background.
         BorderPane layout = new BorderPane();
-        layout.setBackground(new Background(background));
+        SpriteLevels.bindBackground(layout, "file:src/assets/menu.png");
         // Set the welcome label at the top.
         VBox topContainer = new VBox(welcomeLabel);
         topContainer.setStyle("-fx-alignment: center; -fx-padding: 40 0 0 0;");
@@ -341,66 +330,19 @@ public class NewGame {
         // Update the duck's color property.
         duck.setColour(duckColor);
 
-        // Set the base path for duck sprite assets.
-        String basePath = "file:src/assets/";
-        String[] duckFrames;
-
-        // Select the appropriate sprite frames based on the duck's color.
-        switch (duckColor.toLowerCase()) {
-            case "blue":
-                duckFrames = new String[] {
-                    basePath + "blueDuckSprite/tile030.png",
-                    basePath + "blueDuckSprite/tile031.png",
-                    basePath + "blueDuckSprite/tile032.png",
-                    basePath + "blueDuckSprite/tile033.png",
-                    basePath + "blueDuckSprite/tile034.png",
-                    basePath + "blueDuckSprite/tile035.png"
-                };
-                break;
-            case "pink":
-                duckFrames = new String[] {
-                    basePath + "pinkDuckSprite/tile030.png",
-                    basePath + "pinkDuckSprite/tile031.png",
-                    basePath + "pinkDuckSprite/tile032.png",
-                    basePath + "pinkDuckSprite/tile033.png",
-                    basePath + "pinkDuckSprite/tile034.png",
-                    basePath + "pinkDuckSprite/tile035.png"
-                };
-                break;
-            default: // white
-                duckFrames = new String[] {
-                    basePath + "duckSpriteSheet/duck030.png",
-                    basePath + "duckSpriteSheet/duck031.png",
-                    basePath + "duckSpriteSheet/duck032.png",
-                    basePath + "duckSpriteSheet/duck033.png",
-                    basePath + "duckSpriteSheet/duck034.png",
-                    basePath + "duckSpriteSheet/duck035.png"
-                };
-        }
-
-        // Create a new Timeline for the duck animation.
-        duckAnimation = new Timeline();
-        for (int i = 0; i < duckFrames.length; i++) {
-            final String frame = duckFrames[i];
-            // Schedule each frame with a delay.
-            duckAnimation.getKeyFrames().add(new KeyFrame(
-                Duration.millis(i * 200),
-                e -> {
-                    try {
-                        duckImageView.setImage(new Image(frame, 200, 200, true, true));
-                    } catch (Exception ex) {
-                        System.err.println("Error loading duck frame: " + frame);
-                    }
-                }
-            ));
+        // Resolve the preview clip's frames for the colour once so each frame only moves the viewport.
+        final AnimationClip previewClip;
+        final SpriteFrames frames;
+        try {
+            previewClip = AnimationRegistry.get().clip("preview");
+            frames = previewClip.frames(duckColor);
+        } catch (Exception ex) {
+            System.err.println("Error loading duck frames for colour: " + duckColor);
+            return;
         }
-        // Add a pause at the end of the animation cycle.
-        duckAnimation.getKeyFrames().add(new KeyFrame(
-            Duration.millis(duckFrames.length * 200 + 1000)
-        ));
 
-        // Loop the animation indefinitely.
-        duckAnimation.setCycleCount(Timeline.INDEFINITE);
+        // Play the clip on the shared sprite clock, pausing on the last frame between loops.
+        duckAnimation = previewClip.createAnimation(duckImageView, frames);
         duckAnimation.play();
     }
 
@@ -525,8 +467,7 @@ public class NewGame {
                     // Start playtime tracking.
                     main.startPlaytimeTracking(settings);
                     // Transition to the Home screen.
-                    Home home = new Home(main, selected, newInventory, newSettings);
-                    main.setScene(home.getScene());
+                    main.getScreenRouter().show(Home.class);
                     // Begin coin generation.
                     main.startCoinGeneration();
                 }
@@ -7,6 +7,7 @@ import Application.GameSettingsAndStats;
 import Application.Inventory;
 import Application.Main;
 import Application.SaveLoad;
+import Application.Sprites.SpriteLevels;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -17,12 +18,6 @@ import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.control.TextField;
 import javafx.scene.control.cell.PropertyValueFactory;
-import javafx.scene.image.Image;
-import javafx.scene.layout.Background;
-import javafx.scene.layout.BackgroundImage;
-import javafx.scene.layout.BackgroundPosition;
-import javafx.scene.layout.BackgroundRepeat;
-import javafx.scene.layout.BackgroundSize;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.VBox;
 
@@ -108,18 +103,8 @@ public class ParentalControls {
         layout.setPadding(new Insets(20));
         layout.setStyle("-fx-alignment: center;");
 
-        // Set the background image
-        Image backgroundImage = new Image("file:src/assets/pausemenu.png");
-        BackgroundImage background = new BackgroundImage(
-            backgroundImage,
-            BackgroundRepeat.NO_REPEAT,
-            BackgroundRepeat.NO_REPEAT,
-            BackgroundPosition.CENTER,
-            new BackgroundSize(BackgroundSize.AUTO, BackgroundSize.AUTO, false, false, true, true)
-        );
-
         BorderPane root = new BorderPane();
-        root.setBackground(new Background(background));
+        SpriteLevels.bindBackground(root, "file:src/assets/pausemenu.png");
         root.setCenter(layout);
 
         // Scene
@@ -271,18 +256,8 @@ public class ParentalControls {
         tableContainer.setPadding(new Insets(0, 50, 0, 0)); // Add padding to the right (50px)
         tableContainer.setStyle("-fx-alignment: center;"); // Center the table vertically
     
-        // Set the background image
-        Image backgroundImage = new Image("file:src/assets/pausemenu.png");
-        BackgroundImage background = new BackgroundImage(
-            backgroundImage,
-            BackgroundRepeat.NO_REPEAT,
-            BackgroundRepeat.NO_REPEAT,
-            BackgroundPosition.CENTER,
-            new BackgroundSize(BackgroundSize.AUTO, BackgroundSize.AUTO, false, false, true, true)
-        );
-    
         BorderPane layout = new BorderPane();
-        layout.setBackground(new Background(background));
+        SpriteLevels.bindBackground(layout, "file:src/assets/pausemenu.png");
         layout.setLeft(leftMenu);
         layout.setRight(tableContainer); // Place the table container on the right side
     
@@ -355,18 +330,8 @@ public class ParentalControls {
         VBox mainBox = new VBox(30, duckListBox, backButton);
         mainBox.setAlignment(Pos.CENTER);
 
-        // Background
-        Image backgroundImage = new Image("file:src/assets/pausemenu.png");
-        BackgroundImage background = new BackgroundImage(
-            backgroundImage,
-            BackgroundRepeat.NO_REPEAT,
-            BackgroundRepeat.NO_REPEAT,
-            BackgroundPosition.CENTER,
-            new BackgroundSize(BackgroundSize.AUTO, BackgroundSize.AUTO, false, false, true, true)
-        );
-
         BorderPane layout = new BorderPane();
-        layout.setBackground(new Background(background));
+        SpriteLevels.bindBackground(layout, "file:src/assets/pausemenu.png");
         layout.setCenter(mainBox);
 
         this.reviveScene = new Scene(layout, 800, 600);
@@ -462,18 +427,8 @@ public class ParentalControls {
         layout.setPadding(new Insets(40));
         layout.setStyle("-fx-alignment: center;");
 
-        // Background
-        Image backgroundImage = new Image("file:src/assets/pausemenu.png");
-        BackgroundImage background = new BackgroundImage(
-            backgroundImage,
-            BackgroundRepeat.NO_REPEAT,
-            BackgroundRepeat.NO_REPEAT,
-            BackgroundPosition.CENTER,
-            new BackgroundSize(BackgroundSize.AUTO, BackgroundSize.AUTO, false, false, true, true)
-        );
-
         BorderPane root = new BorderPane();
-        root.setBackground(new Background(background));
+        SpriteLevels.bindBackground(root, "file:src/assets/pausemenu.png");
         root.setCenter(layout);
 
         this.timeScene = new Scene(root, 800, 600);
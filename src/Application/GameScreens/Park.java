@@ -1,13 +1,17 @@
 package Application.GameScreens;
 
+import Application.Clock.GameTimer;
+import Application.Clock.TimerRegistry;
+import Application.Components.DayNightTint;
 import Application.Components.PauseButton;
 import Application.Duck;
 import Application.GameSettingsAndStats;
+import Application.Hud;
 import Application.Inventory;
 import Application.Main;
-import Application.UserInterface;
+import Application.Sprites.SpriteCache;
+import Application.VisibilityManager;
 import javafx.animation.KeyFrame;
-import javafx.animation.PauseTransition;
 import javafx.animation.Timeline;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
@@ -28,10 +32,14 @@ import javafx.util.Duration;
  * scrolling animations, and updating the user interface. It also tracks the
  * pet's stats such as happiness and tiredness during the walk.
  */
-public class Park {
+public class Park implements GameScreen {
+    /** Images the screen shows, decoded ahead of the first visit by {@link ScreenPreloader}. */
+    static final String[] SPRITES = { "file:src/assets/parkBackground.png" };
+
     private Scene scene;
+    private Main main;
     private Duck pet;
-    private Timeline walkTimeline;
+    private GameTimer walkTimer;
     private Timeline backgroundScrollTimeline;
     private ImageView bg1, bg2;
     private double scrollSpeed = 2;
@@ -39,26 +47,30 @@ public class Park {
     private Button walkButton;
     private Button stopButton;
     private boolean isWalking = false;
-    private PauseTransition walkDelayStart;
-    private UserInterface userInterface;
+    private GameTimer walkDelayStart;
+    private Hud userInterface;
+    private VisibilityManager visibilityManager;
+    private TimerRegistry timerRegistry;
+    private Pane backgroundLayer;
+    private StackPane centerStack;
 
     /**
      * Constructs the Park screen and initializes its UI components.
      * <br><br>
      * This constructor sets up the layout, buttons, background animations,
-     * and user interface for the Park screen.
+     * and user interface for the Park screen. Stats tracking starts in {@link #onShow()}.
      *
      * @param main The main application instance.
      */
 
     public Park(Main main) {
+        this.main = main;
         this.pet = main.getDuck();
+        this.visibilityManager = main.getVisibilityManager();
+        this.timerRegistry = main.getTimerRegistry();
         Inventory inventory = main.getInventory();
         GameSettingsAndStats settings = main.getSettings();
 
-        main.initializeStatsTracking(pet);
-        main.startStatsTracking();
-
         walkButton = new Button("Go for a (W)alk");
         stopButton = new Button("Stop");
 
@@ -71,15 +83,11 @@ public class Park {
         popupLabel.setVisible(false);
         popupLabel.setId("popupLabel");
 
-        if (pet.getTiredness() >= 100) {
-            walkButton.setDisable(true);
-        }
-
         walkButton.setOnAction(e -> {
             isWalking = true;
             walkButton.setDisable(true);
             stopButton.setDisable(false);
-            pet.startWalkingAnimation();
+            main.getDuckView().startWalkingAnimation();
             startWalking();
         });
 
@@ -87,14 +95,14 @@ public class Park {
             isWalking = false;
             walkButton.setDisable(false);
             stopButton.setDisable(true);
-            if (walkTimeline != null) walkTimeline.stop();
-            pet.stopWalkingAnimation();
+            if (walkTimer != null) walkTimer.stop();
+            main.getDuckView().stopWalkingAnimation();
             stopBackgroundScroll();
         });
 
         stopButton.setDisable(true);
 
-        Image bgImage = new Image("file:src/assets/parkBackground.png");
+        Image bgImage = SpriteCache.get(SPRITES[0]);
         backgroundWidth = bgImage.getWidth();
         bg1 = new ImageView(bgImage);
         bg2 = new ImageView(bgImage);
@@ -102,7 +110,7 @@ public class Park {
         bg2.setPreserveRatio(false);
         bg1.setSmooth(true);
         bg2.setSmooth(true);
-        Pane backgroundLayer = new Pane(bg1, bg2);
+        backgroundLayer = new Pane(bg1, bg2);
         bg1.setX(0);
         bg2.setX(backgroundWidth);
         bg1.fitHeightProperty().bind(backgroundLayer.heightProperty());
@@ -115,30 +123,21 @@ public class Park {
         actionBox.setStyle("-fx-alignment: center-left; -fx-padding: 200 0 0 50;");
         layout.setLeft(actionBox);
 
-        StackPane centerStack = new StackPane(pet.getDuckImageView());
+        // The pet's image view is placed in the center stack on each visit
+        centerStack = new StackPane();
         centerStack.setStyle("-fx-alignment: bottom-center;");
-        pet.getDuckImageView().setTranslateY(-60);
-        pet.getDuckImageView().setTranslateX(-100);
         layout.setCenter(centerStack);
 
-        userInterface = new UserInterface(settings, pet, main.getCoinLabel());
+        userInterface = Hud.create(settings, pet, main.getCoinLabel());
         StackPane uiLayer = new StackPane(userInterface.getScene().getRoot());
         StackPane.setAlignment(userInterface.getScene().getRoot(), javafx.geometry.Pos.BOTTOM_RIGHT);
         uiLayer.setMouseTransparent(true);
-        main.updateUserInterface(userInterface);
 
         Button homeButton = new Button("Home");
         homeButton.setStyle("-fx-font-size: 16px; -fx-background-color: rgb(135, 206, 250); -fx-text-fill: black; -fx-background-radius: 10; -fx-padding: 20 40;");
         homeButton.setOnAction(e -> {
-            if (walkDelayStart != null) walkDelayStart.stop();
-            if (walkTimeline != null) walkTimeline.stop();
-            if (backgroundScrollTimeline != null) backgroundScrollTimeline.stop();
-            isWalking = false;
-            pet.stopWalkingAnimation();
-            walkButton.setDisable(false);
-            stopButton.setDisable(true);
             main.stopStatsTracking(pet);
-            main.setScene(new Home(main, pet, inventory, settings).getScene());
+            main.getScreenRouter().show(Home.class);
         });
 
         StackPane.setAlignment(homeButton, javafx.geometry.Pos.BOTTOM_LEFT);
@@ -156,37 +155,81 @@ public class Park {
         });
     }
 
+    /**
+     * Starts the per-visit work of the Park screen.
+     * <br><br>
+     * This method restarts stats tracking, reclaims the pet's image view from the
+     * screen that showed it last, and binds the HUD and background tint. The walk
+     * button stays disabled while the pet is too tired.
+     */
+
+    @Override
+    public void onShow() {
+        main.initializeStatsTracking(pet);
+        main.startStatsTracking();
+
+        ImageView duckImageView = main.getDuckView().getDuckImageView();
+        centerStack.getChildren().setAll(duckImageView);
+        duckImageView.setTranslateY(-60);
+        duckImageView.setTranslateX(-100);
+
+        DayNightTint.bind(timerRegistry, this, backgroundLayer, pet);
+        main.updateUserInterface(this, pet, userInterface);
+        userInterface.onShow();
+
+        walkButton.setDisable(pet.getTiredness() >= 100);
+        stopButton.setDisable(true);
+    }
+
+    /**
+     * Ends any walk in progress when the player leaves the Park.
+     * <br><br>
+     * The walk timers themselves are cancelled with the rest of this screen's
+     * timers; this method stops the pending start and the walking animation.
+     */
+
+    @Override
+    public void onHide() {
+        if (walkDelayStart != null) walkDelayStart.stop();
+        if (walkTimer != null) walkTimer.stop();
+        if (backgroundScrollTimeline != null) backgroundScrollTimeline.stop();
+        isWalking = false;
+        main.getDuckView().stopWalkingAnimation();
+    }
+
     /**
      * Starts the walking activity for the pet.
      * <br><br>
      * This method increases the pet's happiness and tiredness over time while
      * the walk is active. It also starts the background scrolling animation.
      * If the pet's tiredness reaches 100, the walk is stopped automatically.
+     * The walk runs on the game clock, so it follows accelerated, paused and
+     * manual clocks and catches up after the window is restored.
      */
 
     private void startWalking() {
-        walkTimeline = new Timeline(new KeyFrame(Duration.seconds(1), event -> {
+        if (walkTimer != null) {
+            timerRegistry.release(walkTimer); // Each walk gets a fresh timer
+        }
+        if (walkDelayStart != null) {
+            timerRegistry.release(walkDelayStart);
+        }
+        walkTimer = timerRegistry.every(this, "walk", 1000, () -> {
             if (pet.getTiredness() < 100) {
                 pet.setHappiness(2);
                 pet.setTiredness(5);
-                userInterface.updateStatsDisplay();
-                userInterface.updateHealth();
-                userInterface.updateHunger();
-                userInterface.updateCoinDisplay();
             } else {
                 System.out.println("Pet is too tired to walk!");
-                walkTimeline.stop();
+                walkTimer.stop();
                 stopBackgroundScroll();
                 walkButton.setDisable(true);
                 stopButton.setDisable(true);
-                pet.stopWalkingAnimation();
+                main.getDuckView().stopWalkingAnimation();
             }
-        }));
-        walkTimeline.setCycleCount(Timeline.INDEFINITE);
+        });
 
-        walkDelayStart = new PauseTransition(Duration.millis(50));
-        walkDelayStart.setOnFinished(e -> {
-            walkTimeline.play();
+        walkDelayStart = timerRegistry.after(this, "walk-start", 50, () -> {
+            walkTimer.play();
             startBackgroundScroll();
         });
         walkDelayStart.play();
@@ -200,6 +243,9 @@ public class Park {
      */
 
     private void startBackgroundScroll() {
+        if (backgroundScrollTimeline != null) {
+            timerRegistry.release(backgroundScrollTimeline);
+        }
         backgroundScrollTimeline = new Timeline(new KeyFrame(Duration.millis(20), e -> {
             bg1.setX(bg1.getX() - scrollSpeed);
             bg2.setX(bg2.getX() - scrollSpeed);
@@ -211,6 +257,11 @@ public class Park {
             }
         }));
         backgroundScrollTimeline.setCycleCount(Timeline.INDEFINITE);
+        timerRegistry.track(this, "background-scroll", backgroundScrollTimeline);
+        if (visibilityManager != null) {
+            // Purely visual; paused whenever the park cannot be seen
+            visibilityManager.manageDisplay(backgroundScrollTimeline);
+        }
         backgroundScrollTimeline.play();
     }
 
@@ -234,6 +285,7 @@ public class Park {
      * @return The Scene object for the Park screen.
      */
 
+    @Override
     public Scene getScene() {
         return scene;
     }
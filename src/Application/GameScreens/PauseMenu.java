@@ -5,14 +5,9 @@ import Application.GameSettingsAndStats;
 import Application.Inventory;
 import Application.Main;
 import Application.SaveLoad;
+import Application.Sprites.SpriteLevels;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
-import javafx.scene.image.Image;
-import javafx.scene.layout.Background;
-import javafx.scene.layout.BackgroundImage;
-import javafx.scene.layout.BackgroundPosition;
-import javafx.scene.layout.BackgroundRepeat;
-import javafx.scene.layout.BackgroundSize;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.VBox;
 
@@ -116,19 +111,9 @@ public class PauseMenu {
         buttonBox.getChildren().addAll(resumeButton, mainMenuButton, settingsButton);
         buttonBox.setStyle("-fx-alignment: center;"); // Center-align the VBox
 
-        // Load the background image for the pause menu.
-        Image backgroundImage = new Image("file:src/assets/pauseMenu.png");
-        BackgroundImage background = new BackgroundImage(
-            backgroundImage,
-            BackgroundRepeat.NO_REPEAT,
-            BackgroundRepeat.NO_REPEAT,
-            BackgroundPosition.CENTER,
-            new BackgroundSize(BackgroundSize.AUTO, BackgroundSize.AUTO, false, false, true, true)
-        );
-
         // Create a BorderPane layout, set the background image, and place the button box in the center.
         BorderPane layout = new BorderPane();
-        layout.setBackground(new Background(background));
+        SpriteLevels.bindBackground(layout, "file:src/assets/pauseMenu.png");
         layout.setCenter(buttonBox);
 
         // Create the final scene with the configured layout and fixed dimensions.
@@ -0,0 +1,149 @@
+package Application.GameScreens;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import Application.Main;
+import Application.Sprites.SpriteCache;
+import Application.Sprites.SpriteLevels;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.stage.Screen;
+import javafx.stage.Stage;
+
+/**
+ * Warms the gameplay screens the player is likely to open next.
+ * <br><br>
+ * A screen's first visit used to stall the FX thread while its images were decoded and its
+ * layout was built. The preloader decodes a screen's images into the shared sprite caches on
+ * a low-priority background thread, then builds the screen through the {@link ScreenRouter}
+ * on the FX thread, one screen per hop so input and animation keep running in between. The
+ * first navigation simply finds the screen already cached.
+ */
+public class ScreenPreloader {
+
+    // Images each screen shows; backgrounds are decoded at their pre-scaled levels.
+    private static final class Assets {
+        private final String[] backgrounds;
+        private final String[] sprites;
+
+        private Assets(String[] backgrounds, String[] sprites) {
+            this.backgrounds = backgrounds;
+            this.sprites = sprites;
+        }
+
+        // Decodes every image into the shared caches. Runs on the decoder thread.
+        private void decode(double[] renderScales) {
+            for (String path : backgrounds) {
+                for (double scale : renderScales) {
+                    SpriteLevels.image(path, SpriteLevels.nearestLevel(scale));
+                }
+            }
+            for (String path : sprites) {
+                SpriteCache.get(path);
+            }
+        }
+    }
+
+    private final Main main;
+    private final ScreenRouter router;
+    private final Map<Class<? extends GameScreen>, Assets> assets = new HashMap<>();
+    // Screens queued for preloading; only touched on the FX thread.
+    private final Set<Class<? extends GameScreen>> pending = new HashSet<>();
+    private final ExecutorService decoder = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "screen-preloader");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+    // Bumped whenever the router's cache is cleared, so stale builds are dropped.
+    private int generation = 0;
+    private int prebuilt = 0;
+
+    /**
+     * Creates a preloader that builds screens through a router.
+     *
+     * @param main   The main application instance, used to find the window's render scale.
+     * @param router The router whose cache the preloaded screens go into.
+     */
+    public ScreenPreloader(Main main, ScreenRouter router) {
+        this.main = main;
+        this.router = router;
+        assets.put(Park.class, new Assets(new String[0], Park.SPRITES));
+        assets.put(Vet.class, new Assets(new String[] { Vet.BACKGROUND }, Vet.SPRITES));
+        assets.put(Store.class, new Assets(new String[] { Store.BACKGROUND }, Store.SPRITES));
+    }
+
+    /**
+     * Starts preloading screens that have not been built yet.
+     * <br><br>
+     * Must be called on the FX thread. Screens are decoded and built in the given order;
+     * screens that are already built or queued are skipped.
+     *
+     * @param types The screen classes, most likely next visit first.
+     */
+    @SafeVarargs
+    public final void preload(Class<? extends GameScreen>... types) {
+        int session = generation;
+        double[] renderScales = renderScales();
+        for (Class<? extends GameScreen> type : types) {
+            Assets screenAssets = assets.get(type);
+            if (screenAssets == null || router.isBuilt(type) || !pending.add(type)) {
+                continue;
+            }
+            decoder.execute(() -> {
+                try {
+                    screenAssets.decode(renderScales);
+                } finally {
+                    Platform.runLater(() -> build(type, session));
+                }
+            });
+        }
+    }
+
+    /**
+     * Drops every queued build, for when the router's cache no longer matches the current game.
+     * <br><br>
+     * Images already decoded stay in the shared caches.
+     */
+    public void cancel() {
+        generation++;
+        pending.clear();
+    }
+
+    /**
+     * Returns how many screens the preloader has built ahead of their first visit.
+     *
+     * @return The preloaded screen count.
+     */
+    public int getPrebuiltCount() {
+        return prebuilt;
+    }
+
+    // Builds a decoded screen on the FX thread unless navigation or a new game got there first.
+    private void build(Class<? extends GameScreen> type, int session) {
+        if (session != generation || !pending.remove(type) || router.isBuilt(type)) {
+            return;
+        }
+        router.get(type);
+        prebuilt++;
+    }
+
+    // Render scales a background may be shown at: while the screen is being built off-scene,
+    // and once it fills the current window.
+    private double[] renderScales() {
+        double offScene = Screen.getPrimary().getOutputScaleX();
+        Stage stage = main.getPrimaryStage();
+        Scene scene = stage != null ? stage.getScene() : null;
+        if (scene == null || !(scene.getWidth() > 0)) {
+            return new double[] { offScene };
+        }
+        double windowScale = Math.max(scene.getWidth() / SpriteLevels.DESIGN_WIDTH,
+                scene.getHeight() / SpriteLevels.DESIGN_HEIGHT);
+        return new double[] { offScene, windowScale * stage.getOutputScaleX() };
+    }
+}
@@ -0,0 +1,120 @@
+package Application.GameScreens;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import Application.Main;
+
+/**
+ * Builds each gameplay screen once per session and reuses it on later visits.
+ * <br><br>
+ * Navigating between Home, Park, Vet and Store used to construct a new screen every time,
+ * decoding backgrounds and laying out nodes again. The router caches one instance per screen
+ * class, so a scene switch only runs the screen's {@link GameScreen#onShow()} hook. The cache
+ * is cleared when a different game is loaded, since every screen is built around one duck.
+ * Screens can also be built ahead of their first visit by the router's {@link ScreenPreloader}.
+ */
+public class ScreenRouter {
+
+    private final Main main;
+    private final Map<Class<? extends GameScreen>, Function<Main, GameScreen>> factories = new HashMap<>();
+    private final Map<Class<? extends GameScreen>, GameScreen> screens = new HashMap<>();
+    private final ScreenPreloader preloader;
+    private int builds = 0;
+
+    /**
+     * Creates a router for the gameplay screens of an application.
+     *
+     * @param main The main application instance the screens are built for.
+     */
+    public ScreenRouter(Main main) {
+        this.main = main;
+        factories.put(Home.class, m -> new Home(m, m.getDuck(), m.getInventory(), m.getSettings()));
+        factories.put(Park.class, Park::new);
+        factories.put(Vet.class, Vet::new);
+        factories.put(Store.class, Store::new);
+        preloader = new ScreenPreloader(main, this);
+    }
+
+    /**
+     * Retrieves the cached instance of a screen, building it on first use.
+     *
+     * @param <T>  The screen type.
+     * @param type The screen class.
+     * @return The screen instance for the current session.
+     */
+    public <T extends GameScreen> T get(Class<T> type) {
+        GameScreen screen = screens.get(type);
+        if (screen == null) {
+            Function<Main, GameScreen> factory = factories.get(type);
+            if (factory == null) {
+                throw new IllegalArgumentException("No screen registered for " + type.getSimpleName());
+            }
+            screen = factory.apply(main);
+            screens.put(type, screen);
+            builds++;
+        }
+        return type.cast(screen);
+    }
+
+    /**
+     * Shows a screen, building it on first use.
+     *
+     * @param <T>  The screen type.
+     * @param type The screen class.
+     * @return The screen now showing.
+     */
+    public <T extends GameScreen> T show(Class<T> type) {
+        T screen = get(type);
+        main.setScene(screen.getScene());
+        return screen;
+    }
+
+    /**
+     * Decodes and builds screens in the background ahead of their first visit.
+     *
+     * @param types The screen classes, most likely next visit first.
+     * @see ScreenPreloader#preload(Class...)
+     */
+    @SafeVarargs
+    public final void preload(Class<? extends GameScreen>... types) {
+        preloader.preload(types);
+    }
+
+    /**
+     * Retrieves the preloader that builds screens ahead of their first visit.
+     *
+     * @return The screen preloader.
+     */
+    public ScreenPreloader getPreloader() {
+        return preloader;
+    }
+
+    /**
+     * Checks whether a screen has already been built this session.
+     *
+     * @param type The screen class.
+     * @return True if a cached instance exists.
+     */
+    public boolean isBuilt(Class<? extends GameScreen> type) {
+        return screens.containsKey(type);
+    }
+
+    /**
+     * Returns how many screens have been built since the application started.
+     *
+     * @return The build count.
+     */
+    public int getBuildCount() {
+        return builds;
+    }
+
+    /**
+     * Forgets every cached screen, so the next visit builds it for the current game.
+     */
+    public void clear() {
+        preloader.cancel();
+        screens.clear();
+    }
+}
@@ -5,14 +5,9 @@ import Application.GameScreens.Tutorial.Tutorial1;
 import Application.GameSettingsAndStats;
 import Application.Inventory;
 import Application.Main;
+import Application.Sprites.SpriteLevels;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
-import javafx.scene.image.Image;
-import javafx.scene.layout.Background;
-import javafx.scene.layout.BackgroundImage;
-import javafx.scene.layout.BackgroundPosition;
-import javafx.scene.layout.BackgroundRepeat;
-import javafx.scene.layout.BackgroundSize;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.VBox;
 
@@ -98,20 +93,9 @@ public class SettingsMenu {
         // Center-align the buttons and add padding.
         buttonBox.setStyle("-fx-alignment: center; -fx-padding: 20;");
 
-        // Load the background image for the settings menu.
-        Image backgroundImage = new Image("file:src/assets/pausemenu.png");
-        // Create a BackgroundImage with no-repeat settings and center position.
-        BackgroundImage background = new BackgroundImage(
-            backgroundImage,
-            BackgroundRepeat.NO_REPEAT,
-            BackgroundRepeat.NO_REPEAT,
-            BackgroundPosition.CENTER,
-            new BackgroundSize(BackgroundSize.AUTO, BackgroundSize.AUTO, false, false, true, true)
-        );
-
         // Create a BorderPane layout, apply the background image, and center the buttonBox.
         BorderPane layout = new BorderPane();
-        layout.setBackground(new Background(background));
+        SpriteLevels.bindBackground(layout, "file:src/assets/pausemenu.png");
         layout.setCenter(buttonBox);
 
         // Initialize the scene with the layout and fixed dimensions.
@@ -8,6 +8,8 @@ import Application.Duck;
 import Application.GameSettingsAndStats;
 import Application.Inventory;
 import Application.Main;
+import Application.Sprites.SpriteCache;
+import Application.Sprites.SpriteLevels;
 import javafx.animation.PauseTransition;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -15,11 +17,6 @@ import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
-import javafx.scene.layout.Background;
-import javafx.scene.layout.BackgroundImage;
-import javafx.scene.layout.BackgroundPosition;
-import javafx.scene.layout.BackgroundRepeat;
-import javafx.scene.layout.BackgroundSize;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.StackPane;
@@ -34,8 +31,22 @@ import javafx.util.Duration;
  * and shows a popup message for feedback. It also provides navigation elements like the pause button,
  * coin counter, and a Home button.
  */
-public class Store {
+public class Store implements GameScreen {
+    /** Background image, decoded ahead of the first visit by {@link ScreenPreloader}. */
+    static final String BACKGROUND = "file:src/assets/storeBackground.png";
+    /** Other images the screen shows: the coin and each item for sale. */
+    static final String[] SPRITES = {
+        "file:src/assets/coinFront.png",
+        "file:src/assets/food011.png",
+        "file:src/assets/toy.png",
+        "file:src/assets/sleepingMask.png"
+    };
+
     private Scene scene;
+    private final Main main;
+    private final Duck pet;
+    private final HBox moneyCounter;
+    private final ImageView coinImageView;
     
     // Keeps track of the number of times each item has been purchased.
     private final Map<String, Integer> purchaseCounts = new HashMap<>();
@@ -46,32 +57,27 @@ public class Store {
     /**
      * Constructs the Store screen. Initializes UI elements, such as item buttons,
      * background images, coin counter, pause button, and Home button, and sets up their actions.
+     * The shared coin counter is placed on the screen in {@link #onShow()}.
      *
      * @param main The main application instance used for scene management and global state.
      */
     public Store(Main main) {
         // Retrieve current game state objects.
-        Duck pet = main.getDuck();
+        this.main = main;
+        this.pet = main.getDuck();
+        Duck pet = this.pet;
         Inventory inventory = main.getInventory();
         GameSettingsAndStats settings = main.getSettings();
         
         // Load the coin image and create an ImageView for displaying coins.
-        Image coinImage = new Image("file:src/assets/coinFront.png");
-        ImageView coinImageView = new ImageView(coinImage);
+        Image coinImage = SpriteCache.get(SPRITES[0]);
+        coinImageView = new ImageView(coinImage);
         coinImageView.setFitWidth(30);
         coinImageView.setFitHeight(30);
-        
-        // Stop pet stat tracking while in the store.
-        main.stopStatsTracking(pet);
 
-        // Retrieve and update the money label (coin counter) from the main application.
-        Label moneyLabel = main.getCoinLabel(); 
-        main.updateCoinLabelReference(moneyLabel);
-        moneyLabel.setStyle("-fx-font-size: 18px; -fx-text-fill: black; -fx-font-weight: bold;");
-        moneyLabel.setGraphic(coinImageView);
 
-        // Place the coin counter in an HBox, aligned at the top-right.
-        HBox moneyCounter = new HBox(moneyLabel);
+        // Create the HBox that holds the coin counter, aligned at the top-right.
+        moneyCounter = new HBox();
         moneyCounter.setAlignment(Pos.TOP_RIGHT);
         moneyCounter.setStyle("-fx-padding: 25;");
 
@@ -105,21 +111,12 @@ public class Store {
         root.getChildren().add(popupLabel);
 
         // Create buttons for each purchasable item.
-        Button foodButton = createItemButton("Food", "file:src/assets/food011.png", 2, popupLabel, inventory, pet, main);
-        Button toyButton = createItemButton("Toy", "file:src/assets/toy.png", 5, popupLabel, inventory, pet, main);
-        Button nightcapButton = createItemButton("Nightcap", "file:src/assets/sleepingMask.png", 10, popupLabel, inventory, pet, main);
+        Button foodButton = createItemButton("Food", SPRITES[1], 2, popupLabel, inventory, pet, main);
+        Button toyButton = createItemButton("Toy", SPRITES[2], 5, popupLabel, inventory, pet, main);
+        Button nightcapButton = createItemButton("Nightcap", SPRITES[3], 10, popupLabel, inventory, pet, main);
         
-        // Load the background image for the store.
-        var backgroundImage = new Image("file:src/assets/storeBackground.png");
-        BackgroundImage background = new BackgroundImage(
-            backgroundImage,
-            BackgroundRepeat.NO_REPEAT,
-            BackgroundRepeat.NO_REPEAT,
-            BackgroundPosition.CENTER,
-            new BackgroundSize(BackgroundSize.AUTO, BackgroundSize.AUTO, false, false, true, true)
-        );
         // Set the background for the layout.
-        layout.setBackground(new Background(background));
+        SpriteLevels.bindBackground(layout, BACKGROUND);
         // Place the pause button container on the left and the money counter on the right.
         layout.setLeft(pauseContainer);
         layout.setRight(moneyCounter);
@@ -165,8 +162,7 @@ public class Store {
                             "-fx-text-fill: black; -fx-background-radius: 10; -fx-padding: 20 40;");
         homeButton.setOnAction(e -> {
             // Navigate to the Home screen.
-            Home home = new Home(main, pet, inventory, settings);
-            main.setScene(home.getScene());
+            main.getScreenRouter().show(Home.class);
         });
         // Position the Home button at the bottom-left of the screen.
         StackPane.setAlignment(homeButton, Pos.BOTTOM_LEFT);
@@ -196,13 +192,13 @@ public class Store {
         Button itemButton = new Button();
         
         // Load the image for the item.
-        Image itemImage = new Image(imagePath);
+        Image itemImage = SpriteCache.get(imagePath);
         ImageView itemImageView = new ImageView(itemImage);
         itemImageView.setFitWidth(80);
         itemImageView.setFitHeight(80);
 
         // Load the coin image for cost display.
-        var coinImage = new Image("file:src/assets/coinFront.png");
+        var coinImage = SpriteCache.get(SPRITES[0]);
         var coinImageView = new ImageView(coinImage);
         coinImageView.setFitWidth(20);
         coinImageView.setFitHeight(20);
@@ -265,7 +261,25 @@ public class Store {
      *
      * @return The scene containing the store interface.
      */
+    @Override
     public Scene getScene() {
         return scene;
     }
+
+    /**
+     * Stops the pet's stats tracking for the visit and takes the shared money label
+     * (coin counter) into this screen's top-right corner.
+     */
+    @Override
+    public void onShow() {
+        // Stop pet stat tracking while in the store.
+        main.stopStatsTracking(pet);
+
+        // Retrieve and update the money label (coin counter) from the main application.
+        Label moneyLabel = main.getCoinLabel();
+        main.updateCoinLabelReference(moneyLabel);
+        moneyLabel.setStyle("-fx-font-size: 18px; -fx-text-fill: black; -fx-font-weight: bold;");
+        moneyLabel.setGraphic(coinImageView);
+        moneyCounter.getChildren().setAll(moneyLabel);
+    }
 }
@@ -3,20 +3,16 @@ package Application.GameScreens;
 import Application.Components.PauseButton;
 import Application.Duck;
 import Application.GameSettingsAndStats;
+import Application.Hud;
 import Application.Inventory;
 import Application.Main;
-import Application.UserInterface;
+import Application.Sprites.SpriteCache;
+import Application.Sprites.SpriteLevels;
 import javafx.animation.PauseTransition;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
-import javafx.scene.layout.Background;
-import javafx.scene.layout.BackgroundImage;
-import javafx.scene.layout.BackgroundPosition;
-import javafx.scene.layout.BackgroundRepeat;
-import javafx.scene.layout.BackgroundSize;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.StackPane;
@@ -30,27 +26,33 @@ import javafx.util.Duration;
  * health if conditions are met, displays a popup message for feedback, and includes navigation
  * elements such as a pause button, a home button, and a user interface overlay.
  */
-public class Vet {
+public class Vet implements GameScreen {
+    /** Background image, decoded ahead of the first visit by {@link ScreenPreloader}. */
+    static final String BACKGROUND = "file:src/assets/vet.png";
+    /** Other images the screen shows. */
+    static final String[] SPRITES = { "file:src/assets/coinFront.png" };
+
     private Scene scene;
+    private Main main;
+    private Duck pet;
+    private Hud userInterface;
 
     /**
      * Constructs the Vet screen, initializing the UI elements and their corresponding actions.
      * This includes displaying the pet's health, coin counter, popup messages, and handling the
      * healing process. It also sets up the background, navigation buttons, and overlays the
-     * user interface.
+     * user interface. Stats tracking starts in {@link #onShow()}.
      *
      * @param main The main application instance used for scene management and global state updates.
      */
     public Vet(Main main) {
         // Retrieve the current game state objects.
-        Duck pet = main.getDuck();
+        this.main = main;
+        this.pet = main.getDuck();
+        Duck pet = this.pet;
         Inventory inventory = main.getInventory();
         GameSettingsAndStats settings = main.getSettings();
 
-        // Initialize and start the pet's stats tracking.
-        main.initializeStatsTracking(pet);
-        main.startStatsTracking();
-
         // Create a popup label for feedback messages (e.g., "Pet healed!").
         Label popupLabel = new Label();
         popupLabel.setStyle("-fx-background-color: rgba(0, 0, 0, 0.75); " +
@@ -69,7 +71,7 @@ public class Vet {
 
         // Create a heal button with text and a coin icon.
         Button healButton = new Button("Restore (H)ealth: 20 x");
-        ImageView coinIcon = new ImageView(new Image("file:src/assets/coinFront.png"));
+        ImageView coinIcon = new ImageView(SpriteCache.get(SPRITES[0]));
         coinIcon.setFitWidth(16);
         coinIcon.setFitHeight(16);
         // Set the coin icon to appear on the right side of the text.
@@ -77,7 +79,7 @@ public class Vet {
         healButton.setContentDisplay(javafx.scene.control.ContentDisplay.RIGHT);
 
         // Initialize the user interface overlay (e.g., coin counter, stats display).
-        UserInterface userInterface = new UserInterface(settings, pet, main.getCoinLabel());
+        userInterface = Hud.create(settings, pet, main.getCoinLabel());
 
         // When clicked, the heal button will attempt to restore the pet's health.
         healButton.setOnAction(e -> {
@@ -85,10 +87,7 @@ public class Vet {
             if (pet.getCoins() >= 20 && pet.getHealth() < 10) {
                 pet.setCoins(-20);  // Deduct 20 coins.
                 int healAmount = 10 - pet.getHealth(); // Calculate the amount needed to fully heal.
-                pet.setHealth(healAmount); // Restore health.
-                // Update the coin display and health stats in the UI.
-                userInterface.updateCoinDisplay();
-                userInterface.updateHealth();
+                pet.setHealth(healAmount); // Restore health; the user interface follows the pet's stats.
                 popupLabel.setText("Pet healed!");
             } else if (pet.getHealth() >= 10) {
                 popupLabel.setText("Pet is already fully healed!");
@@ -100,21 +99,9 @@ public class Vet {
             popupDelay.playFromStart();
         });
 
-        // Update the main UI with the current user interface settings.
-        main.updateUserInterface(userInterface);
-
-        // Load the background image for the Vet screen.
-        BackgroundImage background = new BackgroundImage(
-            new Image("file:src/assets/vet.png"),
-            BackgroundRepeat.NO_REPEAT,
-            BackgroundRepeat.NO_REPEAT,
-            BackgroundPosition.CENTER,
-            new BackgroundSize(BackgroundSize.AUTO, BackgroundSize.AUTO, false, false, true, true)
-        );
-
         // Create the main layout using a BorderPane and set its background.
         BorderPane layout = new BorderPane();
-        layout.setBackground(new Background(background));
+        SpriteLevels.bindBackground(layout, BACKGROUND);
 
         // Create and place the pause button at the top of the screen.
         HBox pauseBox = new HBox(new PauseButton(main, pet, inventory, settings));
@@ -141,7 +128,7 @@ public class Vet {
         homeButton.setOnAction(e -> {
             // Stop the stats tracking and navigate to the Home screen.
             main.stopStatsTracking(pet);
-            main.setScene(new Home(main, pet, inventory, settings).getScene());
+            main.getScreenRouter().show(Home.class);
         });
         // Position the Home button at the bottom-left.
         StackPane.setAlignment(homeButton, javafx.geometry.Pos.BOTTOM_LEFT);
@@ -161,7 +148,19 @@ public class Vet {
      *
      * @return The scene containing the Vet interface.
      */
+    @Override
     public Scene getScene() {
         return scene;
     }
+
+    /**
+     * Starts the pet's stats tracking and binds the user interface overlay for this visit.
+     */
+    @Override
+    public void onShow() {
+        main.initializeStatsTracking(pet);
+        main.startStatsTracking();
+        main.updateUserInterface(this, pet, userInterface);
+        userInterface.onShow();
+    }
 }
@@ -0,0 +1,98 @@
+package Application;
+
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+
+/**
+ * The heads-up display showing a pet's health, hunger, happiness, tiredness, score and coins.
+ * <p>
+ * Screens build their HUD through {@link #create(GameSettingsAndStats, Duck, Label)} and place
+ * the root of {@link #getScene()} over their own layout. Two renderers share this API: the
+ * node-based {@link UserInterface}, and {@link CanvasHud}, which draws everything into a single
+ * canvas for machines where CSS and layout passes are the bottleneck.
+ * </p>
+ */
+public interface Hud {
+
+    /**
+     * Creates the HUD selected for this run.
+     * <p>
+     * The canvas renderer is used when the {@code duck.canvasHud} system property is
+     * {@code true}; otherwise the node-based {@link UserInterface} is used.
+     * </p>
+     *
+     * @param settings  the game settings
+     * @param pet       the pet whose stats are shown
+     * @param coinLabel the shared label holding the current coin count
+     * @return the new HUD
+     */
+    static Hud create(GameSettingsAndStats settings, Duck pet, Label coinLabel) {
+        if (Boolean.getBoolean("duck.canvasHud")) {
+            return new CanvasHud(settings, pet, coinLabel);
+        }
+        return new UserInterface(settings, pet, coinLabel);
+    }
+
+    /**
+     * Retrieves the scene whose root holds the HUD.
+     *
+     * @return the HUD scene
+     */
+    Scene getScene();
+
+    /**
+     * Prepares the HUD for another visit to its screen.
+     * <p>
+     * Screens are reused, and the shared coin label may have been placed elsewhere since the
+     * HUD was built; renderers that show the label take it back here.
+     * </p>
+     */
+    default void onShow() {
+    }
+
+    /**
+     * Updates the health display.
+     */
+    void updateHealth();
+
+    /**
+     * Updates the hunger display.
+     */
+    void updateHunger();
+
+    /**
+     * Updates the score display.
+     */
+    void updateScore();
+
+    /**
+     * Updates the coin display.
+     */
+    void updateCoinDisplay();
+
+    /**
+     * Updates the happiness and tiredness display.
+     */
+    void updateStatsDisplay();
+
+    /**
+     * Retrieves the label holding the coin count.
+     *
+     * @return the coin label
+     */
+    Label getCoinLabel();
+
+    /**
+     * Retrieves the label holding the score.
+     *
+     * @return the score label
+     */
+    Label getScoreLabel();
+
+    /**
+     * Returns how many update calls found nothing to change.
+     *
+     * @return the number of skipped updates since the HUD was created
+     */
+    long getSkippedUpdates();
+}
@@ -1,5 +1,7 @@
 package Application;
 
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Label;
@@ -15,12 +17,16 @@ import javafx.scene.layout.VBox;
  * creates corresponding labels, and arranges them in a JavaFX scene. The class provides getter and setter methods 
  * to update the item counts and refreshes the display accordingly.
  * </p>
+ * <p>
+ * The counts are observable properties. The inventory's own labels follow them, and other screens
+ * can listen to them instead of polling.
+ * </p>
  */
 public class Inventory {
     // Fields to track the quantity of each inventory item.
-    private int food;
-    private int toy;
-    private int nightCap;
+    private final ReadOnlyIntegerWrapper food = new ReadOnlyIntegerWrapper(this, "food");
+    private final ReadOnlyIntegerWrapper toy = new ReadOnlyIntegerWrapper(this, "toy");
+    private final ReadOnlyIntegerWrapper nightCap = new ReadOnlyIntegerWrapper(this, "nightCap");
     // The JavaFX Scene that holds the inventory display.
     private Scene scene;
 
@@ -57,15 +63,15 @@ public class Inventory {
         nightCapImageView.setFitHeight(30); // Set image height
 
         // Create labels for each item with their current count (initially 0) and assign the corresponding ImageView.
-        foodLabel = new Label(" x " + food);
+        foodLabel = new Label(" x " + food.get());
         foodLabel.setStyle("-fx-font-size: 18px; -fx-text-fill: black; -fx-font-weight: bold;");
         foodLabel.setGraphic(foodImageView); // Attach food image to the label
 
-        toyLabel = new Label(" x " + toy);
+        toyLabel = new Label(" x " + toy.get());
         toyLabel.setStyle("-fx-font-size: 18px; -fx-text-fill: black; -fx-font-weight: bold;");
         toyLabel.setGraphic(toyImageView); // Attach toy image to the label
 
-        nightCapLabel = new Label(" x " + nightCap);
+        nightCapLabel = new Label(" x " + nightCap.get());
         nightCapLabel.setStyle("-fx-font-size: 18px; -fx-text-fill: black; -fx-font-weight: bold;");
         nightCapLabel.setGraphic(nightCapImageView); // Attach night cap image to the label
 
@@ -80,6 +86,11 @@ public class Inventory {
         layout.setStyle("-fx-background-color: transparent;"); // Set transparent background
         layout.setLeft(inventoryDisplay);
 
+        // Refresh the labels whenever a count changes.
+        food.addListener(o -> updateLabels());
+        toy.addListener(o -> updateLabels());
+        nightCap.addListener(o -> updateLabels());
+
         // Create a new Scene with the layout and set the dimensions.
         this.scene = new Scene(layout, 800, 600);
     }
@@ -101,7 +112,7 @@ public class Inventory {
      */
     public int getFood() {
         // Return the current food count.
-        return food;
+        return food.get();
     }
 
     /**
@@ -111,7 +122,7 @@ public class Inventory {
      */
     public int getToy() {
         // Return the current toy count.
-        return toy;
+        return toy.get();
     }
 
     /**
@@ -121,46 +132,70 @@ public class Inventory {
      */
     public int getNightCap() {
         // Return the current night cap count.
-        return nightCap;
+        return nightCap.get();
+    }
+
+    /**
+     * Returns the observable quantity of food.
+     *
+     * @return the read-only food property
+     */
+    public ReadOnlyIntegerProperty foodProperty() {
+        return food.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the observable quantity of toys.
+     *
+     * @return the read-only toy property
+     */
+    public ReadOnlyIntegerProperty toyProperty() {
+        return toy.getReadOnlyProperty();
+    }
+
+    /**
+     * Returns the observable quantity of night caps.
+     *
+     * @return the read-only night cap property
+     */
+    public ReadOnlyIntegerProperty nightCapProperty() {
+        return nightCap.getReadOnlyProperty();
     }
 
     /**
      * Updates the quantity of food in the inventory.
      * <p>
-     * The provided change is added to the current food count, and the UI labels are updated accordingly.
+     * The provided change is added to the current food count, and the UI labels follow the new value.
      * </p>
      *
      * @param change the amount to change the food count (can be positive or negative)
      */
     public void setFood(int change) {
-        food += change;  // Update food count
-        updateLabels();  // Refresh the UI labels to show the new count
+        food.set(food.get() + change);  // Update food count; the labels follow
     }
 
     /**
      * Updates the quantity of toys in the inventory.
      * <p>
-     * The provided change is added to the current toy count, and the UI labels are updated accordingly.
+     * The provided change is added to the current toy count, and the UI labels follow the new value.
      * </p>
      *
      * @param change the amount to change the toy count (can be positive or negative)
      */
     public void setToy(int change) {
-        toy += change;   // Update toy count
-        updateLabels();  // Refresh the UI labels to show the new count
+        toy.set(toy.get() + change);  // Update toy count; the labels follow
     }
 
     /**
      * Updates the quantity of night caps in the inventory.
      * <p>
-     * The provided change is added to the current night cap count, and the UI labels are updated accordingly.
+     * The provided change is added to the current night cap count, and the UI labels follow the new value.
      * </p>
      *
      * @param change the amount to change the night cap count (can be positive or negative)
      */
     public void setNightCap(int change) {
-        nightCap += change;  // Update night cap count
-        updateLabels();      // Refresh the UI labels to show the new count
+        nightCap.set(nightCap.get() + change);  // Update night cap count; the labels follow
     }
 
     /**
@@ -171,9 +206,9 @@ public class Inventory {
      */
     public void updateLabels() {
         // Update each label with the new counts.
-        foodLabel.setText(" x " + food);
-        toyLabel.setText(" x " + toy);
-        nightCapLabel.setText(" x " + nightCap);
+        foodLabel.setText(" x " + food.get());
+        toyLabel.setText(" x " + toy.get());
+        nightCapLabel.setText(" x " + nightCap.get());
     }
 
     /**
@@ -184,8 +219,8 @@ public class Inventory {
      */
     public void printItems() {
         // Output the current counts of each item.
-        System.out.println("Food: " + food);
-        System.out.println("Toy: " + toy);
-        System.out.println("Nightcap: " + nightCap);
+        System.out.println("Food: " + food.get());
+        System.out.println("Toy: " + toy.get());
+        System.out.println("Nightcap: " + nightCap.get());
     }
 }
@@ -2,14 +2,20 @@ package Application;
 
 import java.io.File;
 
+import Application.Clock.GameClock;
+import Application.Clock.GameTimer;
+import Application.Clock.TimerRegistry;
+import Application.GameScreens.GameScreen;
 import Application.GameScreens.Home;
 import Application.GameScreens.MainMenu;
 import Application.GameScreens.Park;
 import Application.GameScreens.PauseMenu;
+import Application.GameScreens.ScreenRouter;
 import Application.GameScreens.Store;
 import Application.GameScreens.Vet;
-import javafx.animation.KeyFrame; // for time played tracking
-import javafx.animation.Timeline; // for time played tracking
+import Application.Simulation.StatEngine;
+import Application.Simulation.StatRules;
+import Application.Simulation.WorldEventTimer;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.scene.Scene;
@@ -24,7 +30,6 @@ import javafx.scene.layout.VBox;
 import javafx.scene.media.Media;
 import javafx.scene.media.MediaPlayer;
 import javafx.stage.Stage; // for time played tracking
-import javafx.util.Duration;
 
 /**
  * Represents the main application class for DuckLyfe2.
@@ -41,18 +46,21 @@ public class Main extends Application {
     private Scene currentScene; // Track the current active scene
     private Scene previousScene; // Track the previous scene before PauseMenu
     private MediaPlayer mediaPlayer; // MediaPlayer for the soundtrack
-    private Timeline playtimeTimer;
-    private Timeline depleteHappiness;
-    private Timeline updateTiredness;
-    private Timeline updateHealth;
-    private Timeline updateHunger;
-    private Timeline updateUserInterface;
-    private Timeline updateScore;
+    private final GameClock gameClock = GameClock.fromSpec(System.getProperty("duck.clock")); // Time source for gameplay timers
+    private final TimerRegistry timerRegistry = new TimerRegistry(gameClock); // Owns every periodic task
+    private Object activeScreen; // Gameplay screen whose timers are live
+    private final ScreenRouter screenRouter = new ScreenRouter(this); // Caches one instance of each gameplay screen
+    private GameTimer playtimeTimer;
+    private GameTimer statTimer; // Drives the stat engine one tick at a time
+    private StatEngine statEngine;
+    private WorldEventTimer worldEvents; // Random event schedule of the tracked duck
     private int sessionTime = 0;
+    private VisibilityManager visibilityManager; // Throttles timers and animations when the game is not visible
     
     //Placeholders for future when data being passed between classes is needed
     SaveLoad dSave = new SaveLoad();
     private Duck duck = dSave.loadDuck();
+    private DuckView duckView; // On-screen presentation of the current duck, created when first shown
     private Inventory inventory = dSave.loadInv();
     private GameSettingsAndStats settings = dSave.loadSettings();
     
@@ -69,6 +77,9 @@ public class Main extends Application {
     @Override
     public void start(Stage primaryStage) {
         this.primaryStage = primaryStage;
+        this.visibilityManager = new VisibilityManager(primaryStage);
+        gameClock.start();
+        visibilityManager.manageClock(gameClock);
         
         settings.addSession();
 
@@ -170,6 +181,12 @@ public class Main extends Application {
         // Replace the content of the wrapper with the new scene's root
         rootWrapper.getChildren().setAll(newScene.getRoot());
         currentScene = newScene; // Track the current active scene
+        switchActiveScreen(newScene);
+
+        // Anything other than a gameplay screen is a menu covering the game
+        if (visibilityManager != null) {
+            visibilityManager.setMenuShowing(!isGameplayScene(newScene));
+        }
     
         // Enforce parental lock if active
         enforceParentalLock(newScene);
@@ -215,6 +232,49 @@ public class Main extends Application {
         return primaryStage;
     }
 
+    /**
+     * Retrieves the manager that throttles timers and animations while the game is not visible.
+     *
+     * @return The visibility manager, or null before the application has started.
+     */
+    public VisibilityManager getVisibilityManager() {
+        return visibilityManager;
+    }
+
+    /**
+     * Retrieves the router that builds each gameplay screen once and reuses it.
+     *
+     * @return The screen router.
+     */
+    public ScreenRouter getScreenRouter() {
+        return screenRouter;
+    }
+
+    /**
+     * Retrieves the clock the gameplay timers run on.
+     * <br><br>
+     * The clock runs in real time unless the {@code duck.clock} system property selects
+     * another variant, e.g. {@code -Dduck.clock=x100} for an accelerated soak run.
+     *
+     * @return The game clock.
+     */
+    public GameClock getGameClock() {
+        return gameClock;
+    }
+
+    /**
+     * Retrieves the registry that owns every periodic task.
+     * <br><br>
+     * Screens register their timers under themselves so they are cancelled when the
+     * player navigates away. Run with {@code -Dduck.timerReport=true} to print live timer
+     * counts and tick rates on every screen change.
+     *
+     * @return The timer registry.
+     */
+    public TimerRegistry getTimerRegistry() {
+        return timerRegistry;
+    }
+
     /**
      * Retrieves the MediaPlayer instance for audio playback.
      *
@@ -250,6 +310,24 @@ public class Main extends Application {
     public Duck getDuck() {
         return duck;
     }
+
+    /**
+     * Retrieves the view presenting the current duck.
+     * <br><br>
+     * The view is created the first time the duck is shown. When another duck is loaded, the
+     * previous view is disposed so its animation stops.
+     *
+     * @return The duck's view.
+     */
+    public DuckView getDuckView() {
+        if (duckView == null || duckView.getDuck() != duck) {
+            if (duckView != null) {
+                duckView.dispose();
+            }
+            duckView = new DuckView(duck);
+        }
+        return duckView;
+    }
     /**
      * Retrieves the inventory instance.
      *
@@ -286,9 +364,9 @@ public class Main extends Application {
 
 public void startPlaytimeTracking(GameSettingsAndStats stats) {
     if (playtimeTimer != null) {
-        playtimeTimer.stop(); // Stop any existing timer to avoid duplicates
+        timerRegistry.release(playtimeTimer); // Stop any existing timer to avoid duplicates
     }
-    playtimeTimer = new Timeline(new KeyFrame(Duration.seconds(1), e -> {
+    playtimeTimer = timerRegistry.every(this, "playtime", 1000, () -> {
         stats.setTimePLayed(1); // Increase total playtime every second
         sessionTime++;
 
@@ -368,8 +446,7 @@ public void startPlaytimeTracking(GameSettingsAndStats stats) {
                 }
             });
         }
-    }));
-    playtimeTimer.setCycleCount(Timeline.INDEFINITE);
+    });
     playtimeTimer.play();
 }
 
@@ -615,99 +692,104 @@ public void startPlaytimeTracking(GameSettingsAndStats stats) {
     /**
      * Initializes the tracking of game statistics for the duck.
      * <br><br>
-     * This method sets up timelines to update the duck's happiness, tiredness,
-     * health, hunger, and score over time.
+     * This method sets up a single timeline that advances the {@link StatEngine} every
+     * {@link StatEngine#TICK_MILLIS} milliseconds. The engine updates the duck's happiness,
+     * tiredness, health, hunger, and score using the rules in "statRules.json". The duck's
+     * random world events are set up alongside and run whenever stats are tracked.
      *
      * @param duck The duck instance to track statistics for.
      */
     public void initializeStatsTracking(Duck duck) {
-        depleteHappiness = new Timeline(new KeyFrame(Duration.seconds(3), e -> {
-            if(!duck.isDead()) {
-                duck.setHappiness(-1);
-            }
-        }));
-
-        updateTiredness = new Timeline(new KeyFrame(Duration.seconds(duck.getColour().equals("pink") ? 3.5 : 3), e -> {
-            if(!duck.isDead()) {
-                duck.setTiredness(1);
-            }
-        }));
-
-        updateHealth = new Timeline(new KeyFrame(Duration.seconds(duck.getColour().equals("blue") ? 8.5 : 7), e -> {
-            if(!duck.isDead() && (duck.getHunger() <= 5 || duck.getTiredness() > 85)) {
-                duck.setHealth(-1);
-            }
-        }));
+        if (statTimer != null) {
+            timerRegistry.release(statTimer); // Replace rather than stack trackers when a screen is rebuilt
+        }
+        statEngine = new StatEngine(StatRules.get());
+        initializeWorldEvents(duck);
+        // Each tick also records the event schedule's position so a save never lags behind play.
+        statTimer = timerRegistry.every(this, "stats", StatEngine.TICK_MILLIS, () -> {
+            statEngine.tick(duck);
+            worldEvents.recordPosition();
+        });
+    }
 
-        updateHunger = new Timeline(new KeyFrame(Duration.seconds((duck.getColour().equals("pink") || duck.getColour().equals("blue")) ? 7 : 8), e -> {
-            if(!duck.isDead() && duck.getTiredness() > 50) {
-                duck.setHunger(-1);
-                System.out.println("Duck is HUNGRY!");
-            }
-        }));
-
-        updateScore = new Timeline(new KeyFrame(Duration.seconds(5), e -> {
-            if(!duck.isDead()) {
-                if(duck.getHunger() > 7 && duck.getHealth() == 10 && duck.getHappiness() > 75 && duck.getTiredness() < 60) {
-                    duck.setScore(10);
-                } else if(duck.getHunger() > 4 && duck.getHealth() > 6 && duck.getHappiness() > 60 && duck.getTiredness() < 70) {
-                    duck.setScore(5);
-                } else {
-                    duck.setScore(-2);
-                }
-            }
-        }));
+    /**
+     * Sets up the random world events of the tracked duck.
+     * <br><br>
+     * The schedule is resumed from the duck's saved seed and position and only the next event
+     * has a timer. The shared coin label is refreshed after an event, since a surprise gift
+     * adds coins. Rebuilding a screen for the same duck keeps its schedule.
+     *
+     * @param duck The duck the events happen to.
+     */
+    private void initializeWorldEvents(Duck duck) {
+        if (worldEvents != null && worldEvents.getDuck() == duck) {
+            return;
+        }
+        if (worldEvents != null) {
+            worldEvents.release();
+        }
+        worldEvents = new WorldEventTimer(timerRegistry, this, duck, () -> activeScreen instanceof Park,
+                this::updateCoinLabel);
+    }
 
-        depleteHappiness.setCycleCount(Timeline.INDEFINITE);
-        updateTiredness.setCycleCount(Timeline.INDEFINITE);
-        updateHealth.setCycleCount(Timeline.INDEFINITE);
-        updateHunger.setCycleCount(Timeline.INDEFINITE);
-        updateScore.setCycleCount(Timeline.INDEFINITE);
+    /**
+     * Retrieves the stat engine driving the current duck.
+     *
+     * @return The stat engine, or null before stats tracking is initialized.
+     */
+    public StatEngine getStatEngine() {
+        return statEngine;
     }
+
      /**
-     * Starts tracking game statistics for the duck.
+     * Starts tracking game statistics and world events for the duck.
      */
 
     public void startStatsTracking() {
-        depleteHappiness.play();
-        updateTiredness.play();
-        updateHealth.play();
-        updateHunger.play();
-        updateScore.play();
+        statTimer.play();
+        worldEvents.play();
     }
 
     /**
-     * Stops tracking game statistics for the duck.
+     * Stops tracking game statistics and world events for the duck.
      *
      * @param duck The duck instance to stop tracking statistics for.
      */
 
     public void stopStatsTracking(Duck duck) {
-        depleteHappiness.pause();
-        updateTiredness.pause();
-        updateHealth.pause();
-        updateHunger.pause();
-        updateScore.pause();
+        statTimer.pause();
+        worldEvents.pause();
     }
 
     /**
-     * Updates the user interface with the latest game statistics.
+     * Keeps the user interface in step with the pet's statistics.
+     * <br><br>
+     * Each part of the interface listens to the stats it shows and is redrawn only when one of
+     * them changes. The listeners belong to the screen showing the interface and are removed
+     * when the player leaves that screen.
      *
+     * @param screen        The gameplay screen the interface belongs to.
+     * @param pet           The duck whose statistics are shown.
      * @param userInterface The user interface instance to update.
      */
 
-    public void updateUserInterface(UserInterface userInterface) {
-        updateUserInterface = new Timeline(new KeyFrame(Duration.seconds(1), e -> {
-            userInterface.updateStatsDisplay();
-            userInterface.updateHealth();
-            userInterface.updateHunger();
-            userInterface.updateScore();
-        }));
-        updateUserInterface.setCycleCount(Timeline.INDEFINITE);
-        updateUserInterface.play();
+    public void updateUserInterface(Object screen, Duck pet, Hud userInterface) {
+        timerRegistry.listen(screen, "hud-health", pet.healthProperty(), o -> userInterface.updateHealth());
+        timerRegistry.listen(screen, "hud-hunger", pet.hungerProperty(), o -> userInterface.updateHunger());
+        timerRegistry.listen(screen, "hud-happiness", pet.happinessProperty(), o -> userInterface.updateStatsDisplay());
+        timerRegistry.listen(screen, "hud-tiredness", pet.tirednessProperty(), o -> userInterface.updateStatsDisplay());
+        timerRegistry.listen(screen, "hud-score", pet.scoreProperty(), o -> userInterface.updateScore());
+        timerRegistry.listen(screen, "hud-coins", pet.coinsProperty(), o -> userInterface.updateCoinDisplay());
+
+        // Show the current values straight away rather than waiting for the first change.
+        userInterface.updateStatsDisplay();
+        userInterface.updateHealth();
+        userInterface.updateHunger();
+        userInterface.updateScore();
+        userInterface.updateCoinDisplay();
     }
 
-    private Timeline coinTimeline;
+    private GameTimer coinTimer;
     private Label coinLabel = new Label(); // Shared coin label
     private Label coinLabelRef;
 
@@ -722,26 +804,60 @@ public void startPlaytimeTracking(GameSettingsAndStats stats) {
     
         coinLabelRef = coinLabel;
     
-        if (coinTimeline != null) {
-            coinTimeline.stop();
+        if (coinTimer != null) {
+            timerRegistry.release(coinTimer);
         }
     
         // Ensure coin generation only runs in gameplay scenes
-        if (currentScene != null && (currentScene.getUserData() instanceof Home ||
-                                     currentScene.getUserData() instanceof Store ||
-                                     currentScene.getUserData() instanceof Park ||
-                                     currentScene.getUserData() instanceof Vet)) {
-            coinTimeline = new Timeline(new KeyFrame(Duration.seconds(4.0), e -> {
+        if (currentScene != null && isGameplayScene(currentScene)) {
+            coinTimer = timerRegistry.every(this, "coins", 4000, () -> {
                 duck.setCoins(1); // Increment coins
                 if (coinLabelRef != null) {
                     coinLabelRef.setText(" x " + duck.getCoins());
                 }
-            }));
-            coinTimeline.setCycleCount(Timeline.INDEFINITE);
-            coinTimeline.play();
+            });
+            coinTimer.play();
         }
     }
     
+    /**
+     * Hides the active gameplay screen once the game has moved on from it and shows the new one.
+     * <br><br>
+     * Showing a different gameplay screen or the main menu retires the active screen: its
+     * {@link GameScreen#onHide()} hook runs and its timers are cancelled. The new screen's
+     * {@link GameScreen#onShow()} hook then starts its own. Menus opened on top of a screen,
+     * such as the pause menu, keep it alive so it can be resumed.
+     *
+     * @param newScene The scene being shown.
+     */
+    private void switchActiveScreen(Scene newScene) {
+        Object screen = newScene.getUserData();
+        boolean gameplay = isGameplayScene(newScene);
+        if ((gameplay || screen instanceof MainMenu) && screen != activeScreen) {
+            if (activeScreen != null) {
+                ((GameScreen) activeScreen).onHide();
+                timerRegistry.cancel(activeScreen);
+            }
+            activeScreen = gameplay ? screen : null;
+            if (gameplay) {
+                ((GameScreen) screen).onShow();
+            }
+            if (Boolean.getBoolean("duck.timerReport")) {
+                System.out.print(timerRegistry.report());
+            }
+        }
+    }
+
+    /**
+     * Checks whether a scene is one of the gameplay screens (Home, Store, Park or Vet).
+     *
+     * @param scene The scene to check.
+     * @return True if the scene belongs to a gameplay screen.
+     */
+    private boolean isGameplayScene(Scene scene) {
+        return scene.getUserData() instanceof GameScreen;
+    }
+
     /**
      * Updates the coin label reference.
      * <br><br>
@@ -771,8 +887,8 @@ public void startPlaytimeTracking(GameSettingsAndStats stats) {
      */
 
     public void stopCoinGeneration() {
-        if (coinTimeline != null) {
-            coinTimeline.stop();
+        if (coinTimer != null) {
+            coinTimer.stop();
         }
     }
     
@@ -791,6 +907,9 @@ public void startPlaytimeTracking(GameSettingsAndStats stats) {
         this.duck = newDuck;
         this.inventory = newInventory;
         this.settings = newSettings;
+
+        // Cached screens were built around the previous duck
+        screenRouter.clear();
     
         // Reset coin label with new duck's coin value
         coinLabel.setText(" x " + duck.getCoins());
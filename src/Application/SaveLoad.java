@@ -10,6 +10,8 @@ import org.json.JSONObject;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import Application.Simulation.OfflineProgress;
+
 /**
  * Handles the saving and loading of game data.
  * <p>
@@ -50,7 +52,14 @@ public class SaveLoad {
             duckJson.put("isDead", duck.isDead());
             duckJson.put("colour", duck.getColour());
             duckJson.put("day", duck.getDay());
+            duckJson.put("hour", duck.getHour());
             duckJson.put("coins", duck.getCoins());
+            duckJson.put("score", duck.getScore());
+            // Seed and position of the random event schedule, so events replay identically.
+            duckJson.put("eventSeed", duck.getEventSeed());
+            duckJson.put("eventMillis", duck.getEventMillis());
+            // Used to catch the duck up on the time the game spends closed.
+            duckJson.put("lastUpdated", System.currentTimeMillis());
             // Add the duck data to the save slot.
             saveSlot.put("Duck", duckJson);
         }
@@ -165,6 +174,7 @@ public class SaveLoad {
                 duck.setColour(duckJson.get("colour").asText());
                 duck.setDay(duckJson.get("day").asInt());
                 duck.setCoins(duckJson.get("coins").asInt());
+                applyOfflineProgress(duck, duckJson);
 
                 // Parse Inventory data and create a new Inventory object.
                 Inventory inventory = new Inventory();
@@ -213,6 +223,7 @@ public class SaveLoad {
                     duck.setColour(duckJson.get("colour").asText());
                     duck.setDay(duckJson.get("day").asInt());
                     duck.setCoins(duckJson.get("coins").asInt());
+                    applyOfflineProgress(duck, duckJson);
                     // Return the first successfully loaded Duck.
                     return duck;
                 }
@@ -291,4 +302,30 @@ public class SaveLoad {
         // Fallback: return a new settings object with default values.
         return new GameSettingsAndStats();
     }
+
+    /**
+     * Restores the saved score, hour and event schedule and simulates the time since the duck was saved.
+     * <p>
+     * Saves written before timestamps were recorded are loaded exactly as stored, and keep the
+     * fresh event seed the duck was created with.
+     * </p>
+     *
+     * @param duck     the duck rebuilt from the save
+     * @param duckJson the duck's saved data
+     */
+    private void applyOfflineProgress(Duck duck, JsonNode duckJson) {
+        if (duckJson.has("hour")) {
+            duck.setHour(duckJson.get("hour").asInt());
+        }
+        if (duckJson.has("eventSeed")) {
+            duck.setEventSeed(duckJson.get("eventSeed").asLong());
+            duck.setEventMillis(duckJson.get("eventMillis").asLong());
+        }
+        if (duckJson.has("score")) {
+            duck.setScore(duckJson.get("score").asInt());
+        }
+        if (duckJson.has("lastUpdated")) {
+            OfflineProgress.catchUp(duck, duckJson.get("lastUpdated").asLong(), System.currentTimeMillis());
+        }
+    }
 }
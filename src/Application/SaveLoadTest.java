@@ -73,9 +73,7 @@ public class SaveLoadTest {
      * @return fully initialized Duck instance for testing.
      */
     private Duck createTestDuck() {
-        Duck duck = new Duck("TestDuck") {{
-            initializePulseTimer();
-        }};
+        Duck duck = new Duck("TestDuck");
         duck.setHealth(8);
         duck.setTiredness(2);
         duck.setHunger(7);
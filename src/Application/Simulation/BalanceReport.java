@@ -0,0 +1,158 @@
+package Application.Simulation;
+
+import java.util.Arrays;
+
+/**
+ * Summary of many simulated sessions of one duck colour under one care strategy.
+ * <p>
+ * Survival time is measured from the start of a session until the duck dies; ducks still alive
+ * when the session ends count with the full session length. Coin income includes coins later
+ * spent in the store or at the vet.
+ * </p>
+ */
+public final class BalanceReport {
+
+    private final String colour;
+    private final String strategy;
+    private final long sessionTicks;
+    private final long[] survivalTicks;
+    private final int[] scores;
+    private final int[] coinsEarned;
+    private final int deaths;
+
+    /**
+     * Creates a report from per-session results.
+     *
+     * @param colour        the duck colour simulated
+     * @param strategy      the care strategy name
+     * @param sessionTicks  the length of each session in ticks
+     * @param survivalTicks the ticks each duck survived
+     * @param scores        the score at the end of each session
+     * @param coinsEarned   the coins earned in each session
+     */
+    BalanceReport(String colour, String strategy, long sessionTicks, long[] survivalTicks,
+            int[] scores, int[] coinsEarned) {
+        this.colour = colour;
+        this.strategy = strategy;
+        this.sessionTicks = sessionTicks;
+        this.survivalTicks = survivalTicks.clone();
+        this.scores = scores.clone();
+        this.coinsEarned = coinsEarned.clone();
+        Arrays.sort(this.survivalTicks);
+        Arrays.sort(this.scores);
+        int died = 0;
+        for (long ticks : survivalTicks) {
+            if (ticks < sessionTicks) {
+                died++;
+            }
+        }
+        this.deaths = died;
+    }
+
+    /**
+     * Retrieves the duck colour simulated.
+     *
+     * @return the colour
+     */
+    public String getColour() {
+        return colour;
+    }
+
+    /**
+     * Retrieves the care strategy name.
+     *
+     * @return the strategy name
+     */
+    public String getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Returns the number of sessions simulated.
+     *
+     * @return the session count
+     */
+    public int getSessions() {
+        return scores.length;
+    }
+
+    /**
+     * Returns the fraction of ducks alive at the end of their session.
+     *
+     * @return a value between 0 and 1
+     */
+    public double getSurvivalRate() {
+        return scores.length == 0 ? 0 : 1.0 - (double) deaths / scores.length;
+    }
+
+    /**
+     * Returns a percentile of survival time.
+     *
+     * @param percentile a value between 0 and 100
+     * @return the survival time in minutes
+     */
+    public double survivalMinutes(double percentile) {
+        return ticksToMinutes(survivalTicks[index(percentile, survivalTicks.length)]);
+    }
+
+    /**
+     * Returns a percentile of the final score.
+     *
+     * @param percentile a value between 0 and 100
+     * @return the score
+     */
+    public int score(double percentile) {
+        return scores[index(percentile, scores.length)];
+    }
+
+    /**
+     * Returns the mean final score.
+     *
+     * @return the mean score
+     */
+    public double getMeanScore() {
+        return Arrays.stream(scores).average().orElse(0);
+    }
+
+    /**
+     * Returns the average coin income per hour of the duck being alive.
+     *
+     * @return coins per hour
+     */
+    public double getCoinsPerHour() {
+        long aliveTicks = Arrays.stream(survivalTicks).sum();
+        long coins = Arrays.stream(coinsEarned).asLongStream().sum();
+        return aliveTicks == 0 ? 0 : coins / (ticksToMinutes(aliveTicks) / 60.0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-6s %-11s %6d  %5.1f%%  %7.1f %7.1f %7.1f  %6d %6d %6d %8.1f  %6.1f",
+                colour, strategy, getSessions(), getSurvivalRate() * 100,
+                survivalMinutes(10), survivalMinutes(50), survivalMinutes(90),
+                score(10), score(50), score(90), getMeanScore(), getCoinsPerHour());
+    }
+
+    /**
+     * Returns the column headings matching {@link #toString()}.
+     *
+     * @return the header line
+     */
+    public static String header() {
+        return String.format("%-6s %-11s %6s  %6s  %7s %7s %7s  %6s %6s %6s %8s  %6s",
+                "colour", "strategy", "runs", "alive", "min p10", "min p50", "min p90",
+                "sc p10", "sc p50", "sc p90", "sc mean", "coin/h");
+    }
+
+    private static int index(double percentile, int length) {
+        if (length == 0) {
+            throw new IllegalStateException("No sessions were simulated");
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * length) - 1;
+        return Math.max(0, Math.min(length - 1, index));
+    }
+
+    private static double ticksToMinutes(long ticks) {
+        return ticks * StatEngine.TICK_MILLIS / 60_000.0;
+    }
+}
@@ -0,0 +1,211 @@
+package Application.Simulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import Application.Duck;
+
+/**
+ * Monte Carlo balance runs of the stat rules against simulated players.
+ * <p>
+ * Each session starts a new duck of one colour and plays it for a fixed time under a
+ * {@link CareStrategy}, with randomised gaps between the player's visits. Sessions are
+ * independent, so they run in parallel on every core; each draws from its own seeded random
+ * stream, which keeps a run reproducible whatever the thread count.
+ * </p>
+ * <p>
+ * Prices and action effects match the game: food 2, toy 5 and night cap 10 coins, feeding +1
+ * hunger, playing +10 happiness, a park walk +2 happiness and +5 tiredness per second, sleep
+ * and night caps clear tiredness, and the vet heals fully for 20 coins.
+ * </p>
+ */
+public class BalanceSimulator {
+
+    /** Duck colours the game offers. */
+    public static final List<String> COLOURS = Arrays.asList("white", "pink", "blue");
+
+    private static final int FOOD_PRICE = 2;
+    private static final int TOY_PRICE = 5;
+    private static final int NIGHT_CAP_PRICE = 10;
+    private static final int VET_PRICE = 20;
+    private static final long TICKS_PER_SECOND = 1000 / StatEngine.TICK_MILLIS;
+
+    private final List<StatRule> rules;
+    private final long seed;
+
+    /**
+     * Creates a simulator for the given rules.
+     *
+     * @param rules the stat rules, which should include coin income
+     * @param seed  the seed every session's random stream is derived from
+     */
+    public BalanceSimulator(List<StatRule> rules, long seed) {
+        this.rules = new ArrayList<>(rules);
+        this.seed = seed;
+    }
+
+    /**
+     * Simulates many sessions of one colour under one strategy.
+     *
+     * @param colour   the duck colour
+     * @param strategy how the player looks after the duck
+     * @param sessions the number of sessions
+     * @param minutes  the length of each session in game minutes
+     * @return the summary of all sessions
+     */
+    public BalanceReport run(String colour, CareStrategy strategy, int sessions, double minutes) {
+        long sessionTicks = (long) (minutes * 60_000 / StatEngine.TICK_MILLIS);
+        long[] survival = new long[sessions];
+        int[] scores = new int[sessions];
+        int[] coins = new int[sessions];
+        // Mix the inputs into the seed so each colour and strategy gets its own streams.
+        long runSeed = seed ^ (31L * colour.hashCode() + strategy.getName().hashCode());
+        IntStream.range(0, sessions).parallel().forEach(i -> {
+            SplittableRandom random = new SplittableRandom(runSeed + i * 0x9E3779B97F4A7C15L);
+            Session session = new Session(colour, strategy, random);
+            session.play(sessionTicks);
+            survival[i] = session.survivedTicks;
+            scores[i] = session.duck.getScore();
+            coins[i] = session.duck.getCoins() + session.spent;
+        });
+        return new BalanceReport(colour, strategy.getName(), sessionTicks, survival, scores, coins);
+    }
+
+    /**
+     * Runs every colour against the standard strategies and prints a table of results.
+     * <p>
+     * Arguments, all optional: sessions per row (default 2000), session length in minutes
+     * (default 240) and seed (default 1).
+     * </p>
+     *
+     * @param args the command-line arguments
+     */
+    public static void main(String[] args) {
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        double minutes = args.length > 1 ? Double.parseDouble(args[1]) : 240;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 1;
+
+        BalanceSimulator simulator = new BalanceSimulator(OfflineProgress.rules(), seed);
+        CareStrategy[] strategies = { CareStrategy.neglectful(), CareStrategy.casual(), CareStrategy.attentive() };
+        long start = System.nanoTime();
+        System.out.println(BalanceReport.header());
+        for (CareStrategy strategy : strategies) {
+            for (String colour : COLOURS) {
+                System.out.println(simulator.run(colour, strategy, sessions, minutes));
+            }
+        }
+        System.out.printf("%d sessions of %.0f minutes in %.1f s%n", sessions * strategies.length * COLOURS.size(),
+                minutes, (System.nanoTime() - start) / 1e9);
+    }
+
+    // One duck, one player and their shopping, played forward visit by visit.
+    private final class Session {
+        private final Duck duck;
+        private final CareStrategy strategy;
+        private final SplittableRandom random;
+        private final StatEngine engine = new StatEngine(rules);
+        private int food = 0;
+        private int toys = 0;
+        private int nightCaps = 0;
+        private int spent = 0;
+        private long survivedTicks = 0;
+        private long deathTick = -1;
+
+        private Session(String colour, CareStrategy strategy, SplittableRandom random) {
+            this.duck = new Duck("Balance");
+            this.duck.setColour(colour);
+            this.strategy = strategy;
+            this.random = random;
+        }
+
+        private void play(long sessionTicks) {
+            while (engine.getTickCount() < sessionTicks && !duck.isDead()) {
+                // Visits are spread between half and one and a half times the average interval.
+                double gapSeconds = strategy.getCheckSeconds() * (0.5 + random.nextDouble());
+                long gap = Math.max(1, (long) (gapSeconds * TICKS_PER_SECOND));
+                advance(Math.min(gap, sessionTicks - engine.getTickCount()));
+                if (engine.getTickCount() < sessionTicks) {
+                    visit(sessionTicks);
+                }
+            }
+            survivedTicks = duck.isDead() ? deathTick : sessionTicks;
+        }
+
+        // Steps tick by tick so the moment of death is known exactly.
+        private void advance(long ticks) {
+            for (long i = 0; i < ticks && !duck.isDead(); i++) {
+                engine.tick(duck);
+                if (duck.isDead()) {
+                    deathTick = engine.getTickCount();
+                }
+            }
+        }
+
+        private void visit(long sessionTicks) {
+            if (strategy.shops()) {
+                shop();
+            }
+            if (strategy.getWalkBelowHappiness() >= 0
+                    && (duck.isAngry() || duck.getHappiness() < strategy.getWalkBelowHappiness())) {
+                for (int s = 0; s < strategy.getWalkSeconds() && duck.getTiredness() < 100
+                        && engine.getTickCount() < sessionTicks && !duck.isDead(); s++) {
+                    advance(TICKS_PER_SECOND);
+                    duck.setHappiness(2);
+                    duck.setTiredness(5);
+                }
+            }
+            if (duck.isDead()) {
+                return;
+            }
+            while (duck.getHunger() < strategy.getFeedBelowHunger() && !duck.isAngry() && food > 0) {
+                // One click at a time until the duck is full, as on the home screen.
+                while (duck.getHunger() < 10 && food > 0) {
+                    food--;
+                    duck.setHunger(1);
+                }
+            }
+            while (duck.getHappiness() < strategy.getPlayBelowHappiness() && duck.getHappiness() <= 90 && toys > 0) {
+                toys--;
+                duck.setHappiness(10);
+            }
+            if (strategy.getSleepAboveTiredness() >= 0 && duck.getTiredness() > strategy.getSleepAboveTiredness()
+                    && duck.getTiredness() > 50 && !duck.isAngry()) {
+                duck.setTiredness(-duck.getTiredness());
+            } else if (strategy.getGiftAboveTiredness() >= 0 && duck.getTiredness() > strategy.getGiftAboveTiredness()
+                    && nightCaps > 0) {
+                nightCaps--;
+                duck.setTiredness(-duck.getTiredness());
+            }
+            if (duck.getHealth() < strategy.getHealBelowHealth() && duck.getCoins() >= VET_PRICE) {
+                pay(VET_PRICE);
+                duck.setHealth(10 - duck.getHealth());
+            }
+        }
+
+        // Restocks whatever the strategy uses and has run out of, cheapest needs first.
+        private void shop() {
+            if (strategy.getFeedBelowHunger() >= 0) {
+                while (food < 10 && duck.getCoins() >= FOOD_PRICE) {
+                    pay(FOOD_PRICE);
+                    food++;
+                }
+            }
+            if (strategy.getPlayBelowHappiness() >= 0 && toys == 0 && duck.getCoins() >= TOY_PRICE) {
+                pay(TOY_PRICE);
+                toys++;
+            }
+            if (strategy.getGiftAboveTiredness() >= 0 && nightCaps == 0 && duck.getCoins() >= NIGHT_CAP_PRICE) {
+                pay(NIGHT_CAP_PRICE);
+                nightCaps++;
+            }
+        }
+
+        private void pay(int price) {
+            duck.setCoins(-price);
+            spent += price;
+        }
+    }
+}
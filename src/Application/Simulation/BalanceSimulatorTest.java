@@ -0,0 +1,51 @@
+package Application.Simulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Unit Test suite for the {@link BalanceSimulator} class.
+ * <p>
+ * This class verifies that balance runs are reproducible from their seed despite running in
+ * parallel, and that better care produces longer-lived ducks.
+ * </p>
+ * <p>
+ * <b>Testing Approach:</b> Black-box testing of report summaries from short runs. The tests run
+ * without the JavaFX toolkit.
+ * </p>
+ *
+ * <b>Test Category:</b> Unit Testing (Game Logic Simulation)<br>
+ * <b>Automation:</b> Automated using JUnit<br>
+ * <b>Requirement:</b> Balance runs must be repeatable so tuning changes can be compared.<br>
+ */
+public class BalanceSimulatorTest {
+
+    /**
+     * Test Case Name: Same Seed Same Report
+     * <p><b>Test Case Description:</b> Two runs with the same seed give identical summaries.</p>
+     */
+    @Test
+    public void testSameSeedSameReport() {
+        BalanceReport first = new BalanceSimulator(OfflineProgress.rules(), 42)
+                .run("pink", CareStrategy.casual(), 64, 30);
+        BalanceReport second = new BalanceSimulator(OfflineProgress.rules(), 42)
+                .run("pink", CareStrategy.casual(), 64, 30);
+        assertEquals(64, first.getSessions());
+        assertEquals(first.toString(), second.toString());
+    }
+
+    /**
+     * Test Case Name: Care Extends Survival
+     * <p><b>Test Case Description:</b> Attentive players keep ducks alive longer than neglectful ones.</p>
+     */
+    @Test
+    public void testCareExtendsSurvival() {
+        BalanceSimulator simulator = new BalanceSimulator(OfflineProgress.rules(), 7);
+        BalanceReport neglected = simulator.run("white", CareStrategy.neglectful(), 32, 30);
+        BalanceReport attended = simulator.run("white", CareStrategy.attentive(), 32, 30);
+        assertTrue(attended.survivalMinutes(50) > neglected.survivalMinutes(50));
+        assertTrue(attended.getSurvivalRate() >= neglected.getSurvivalRate());
+        assertTrue(attended.getCoinsPerHour() > 0);
+    }
+}
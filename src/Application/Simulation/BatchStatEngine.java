@@ -0,0 +1,167 @@
+package Application.Simulation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Applies stat rules to every duck of a {@link DuckBatch} at once.
+ * <p>
+ * The batch engine follows exactly the same tick semantics as {@link StatEngine}, so each duck
+ * in a batch ends up where a {@link StatEngine} would have taken it. Each tick first works out
+ * which rules fire for which colours; ticks where nothing fires cost almost nothing. The ducks
+ * are then split into slices that the common fork/join pool processes in parallel, each slice
+ * running the firing rules over flat arrays.
+ * </p>
+ */
+public class BatchStatEngine {
+
+    // Ducks per fork/join leaf; big enough to amortise task overhead.
+    static final int SLICE_SIZE = 16_384;
+
+    private final List<StatRule> rules;
+    private final StatCondition[][] conditions;
+    private long tickCount = 0;
+
+    /**
+     * Creates an engine that applies the given rules.
+     *
+     * @param rules the rules in the order they fire within a tick
+     * @throws IllegalArgumentException if a rule uses a condition other than a {@link StatCondition}
+     */
+    public BatchStatEngine(List<StatRule> rules) {
+        this.rules = Collections.unmodifiableList(new ArrayList<>(rules));
+        this.conditions = new StatCondition[rules.size()][];
+        for (int r = 0; r < rules.size(); r++) {
+            List<StatRule.Outcome> outcomes = rules.get(r).getOutcomes();
+            conditions[r] = new StatCondition[outcomes.size()];
+            for (int o = 0; o < outcomes.size(); o++) {
+                if (!(outcomes.get(o).getCondition() instanceof StatCondition)) {
+                    throw new IllegalArgumentException("Rule " + rules.get(r).getName()
+                            + " needs StatCondition conditions to run in a batch");
+                }
+                conditions[r][o] = (StatCondition) outcomes.get(o).getCondition();
+            }
+        }
+    }
+
+    /**
+     * Creates an engine with the rules the game runs, read from the rules file, so batch runs
+     * stay in step with play when the rules are retuned.
+     *
+     * @return a new engine at tick 0
+     * @see StatRules#get()
+     */
+    public static BatchStatEngine withGameRules() {
+        return new BatchStatEngine(StatRules.get());
+    }
+
+    /**
+     * Returns the number of ticks simulated so far.
+     *
+     * @return the tick count
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Advances every duck in the batch by one tick.
+     *
+     * @param batch the ducks to update
+     */
+    public void tick(DuckBatch batch) {
+        tickCount++;
+        List<String> colours = batch.colourNames();
+        boolean[][] firing = new boolean[rules.size()][colours.size()];
+        boolean anyFiring = false;
+        for (int r = 0; r < firing.length; r++) {
+            for (int c = 0; c < colours.size(); c++) {
+                firing[r][c] = tickCount % rules.get(r).periodFor(colours.get(c)) == 0;
+                anyFiring |= firing[r][c];
+            }
+        }
+        if (!anyFiring) {
+            return;
+        }
+
+        if (batch.size() <= SLICE_SIZE) {
+            apply(batch, firing, 0, batch.size());
+        } else {
+            ForkJoinPool.commonPool().invoke(new Slice(batch, firing, 0, batch.size()));
+        }
+    }
+
+    /**
+     * Advances every duck in the batch by a number of ticks.
+     *
+     * @param batch the ducks to update
+     * @param ticks the number of ticks to simulate
+     */
+    public void advance(DuckBatch batch, long ticks) {
+        for (long i = 0; i < ticks; i++) {
+            tick(batch);
+        }
+    }
+
+    // Runs this tick's firing rules over ducks [from, to), one rule at a time.
+    private void apply(DuckBatch batch, boolean[][] firing, int from, int to) {
+        int[][] stats = batch.stats();
+        byte[] colours = batch.colourCodes();
+        boolean[] dead = batch.deadFlags();
+        for (int r = 0; r < firing.length; r++) {
+            boolean[] fires = firing[r];
+            StatCondition[] ruleConditions = conditions[r];
+            List<StatRule.Outcome> outcomes = rules.get(r).getOutcomes();
+            for (int i = from; i < to; i++) {
+                if (dead[i] || !fires[colours[i]]) {
+                    continue;
+                }
+                for (int o = 0; o < ruleConditions.length; o++) {
+                    if (ruleConditions[o] == StatCondition.ALWAYS || ruleConditions[o].test(stats, i)) {
+                        StatRule.Outcome outcome = outcomes.get(o);
+                        Stat stat = outcome.getStat();
+                        int[] column = stats[stat.ordinal()];
+                        int value = stat.applyTo(column[i], outcome.getDelta());
+                        // Mirrors Duck.setHealth: reaching 0 kills the duck.
+                        if (stat == Stat.HEALTH && value <= 0) {
+                            value = 0;
+                            dead[i] = true;
+                        }
+                        column[i] = value;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    // Splits a range of ducks in half until it is small enough to run directly.
+    private final class Slice extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final DuckBatch batch;
+        private final boolean[][] firing;
+        private final int from;
+        private final int to;
+
+        private Slice(DuckBatch batch, boolean[][] firing, int from, int to) {
+            this.batch = batch;
+            this.firing = firing;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SLICE_SIZE) {
+                apply(batch, firing, from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new Slice(batch, firing, from, middle), new Slice(batch, firing, middle, to));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package Application.Simulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+import Application.Duck;
+
+/**
+ * Unit Test suite for the {@link BatchStatEngine} and {@link DuckBatch} classes.
+ * <p>
+ * This class verifies that simulating ducks in a batch, including batches large enough to be
+ * split across fork/join tasks, gives every duck the same stats as simulating it alone.
+ * </p>
+ * <p>
+ * <b>Testing Approach:</b> Black-box comparison of batch results against one {@link StatEngine}
+ * per duck. The tests run without the JavaFX toolkit.
+ * </p>
+ *
+ * <b>Test Category:</b> Unit Testing (Game Logic Simulation)<br>
+ * <b>Automation:</b> Automated using JUnit<br>
+ * <b>Requirement:</b> Batch simulation must match single-duck simulation exactly.<br>
+ */
+public class BatchStatEngineTest {
+
+    /**
+     * Test Case Name: Batch Matches Single Ducks
+     * <p><b>Test Case Description:</b> Ducks of every colour with varied starting stats end up
+     * identical to ducks simulated one at a time, across more than one fork/join slice.</p>
+     */
+    @Test
+    public void testBatchMatchesSingleDucks() {
+        String[] colours = { "white", "pink", "blue" };
+        int count = BatchStatEngine.SLICE_SIZE + 1000;
+        Duck[] ducks = new Duck[count];
+        DuckBatch batch = new DuckBatch(16);
+        for (int i = 0; i < count; i++) {
+            ducks[i] = new Duck("Duck" + i);
+            ducks[i].setColour(colours[i % colours.length]);
+            ducks[i].setTiredness(i % 90);
+            ducks[i].setHunger(-(i % 9));
+            ducks[i].setHappiness(-(i % 50));
+            assertEquals(i, batch.add(ducks[i]));
+        }
+
+        BatchStatEngine batchEngine = BatchStatEngine.withGameRules();
+        batchEngine.advance(batch, 600);
+        assertEquals(600, batchEngine.getTickCount());
+
+        for (int i = 0; i < count; i++) {
+            new StatEngine(StatRules.get()).advance(ducks[i], 600);
+            for (Stat stat : Stat.values()) {
+                assertEquals("duck " + i + " " + stat, stat.get(ducks[i]), batch.get(stat, i));
+            }
+            assertEquals("duck " + i, ducks[i].isDead(), batch.isDead(i));
+            assertEquals(ducks[i].getColour(), batch.getColour(i));
+        }
+    }
+
+    /**
+     * Test Case Name: New Ducks Start Fresh
+     * <p><b>Test Case Description:</b> Ducks added by colour start with a new duck's stats and a starving one dies.</p>
+     */
+    @Test
+    public void testNewDucksStartFresh() {
+        DuckBatch batch = new DuckBatch(2);
+        int index = batch.add("pink");
+        for (Stat stat : Stat.values()) {
+            assertEquals(stat.get(new Duck("Fresh")), batch.get(stat, index));
+        }
+
+        batch.column(Stat.HUNGER)[index] = 0;
+        BatchStatEngine.withGameRules().advance(batch, 14 * 10);
+        assertTrue(batch.isDead(index));
+        assertEquals(0, batch.get(Stat.HEALTH, index));
+    }
+}
@@ -0,0 +1,295 @@
+package Application.Simulation;
+
+/**
+ * How a simulated player looks after their duck during a balance run.
+ * <p>
+ * The player checks in every {@code checkSeconds} on average and then uses the same actions
+ * the game offers, with the same restrictions: shopping, walking in the park, feeding, playing,
+ * sleeping, gifting a night cap and visiting the vet. Each action has a threshold; a negative
+ * threshold disables it. Strategies are immutable once built.
+ * </p>
+ */
+public final class CareStrategy {
+
+    private final String name;
+    private final double checkSeconds;
+    private final int walkBelowHappiness;
+    private final int walkSeconds;
+    private final int feedBelowHunger;
+    private final int playBelowHappiness;
+    private final int sleepAboveTiredness;
+    private final int giftAboveTiredness;
+    private final int healBelowHealth;
+    private final boolean shops;
+
+    private CareStrategy(Builder builder) {
+        this.name = builder.name;
+        this.checkSeconds = builder.checkSeconds;
+        this.walkBelowHappiness = builder.walkBelowHappiness;
+        this.walkSeconds = builder.walkSeconds;
+        this.feedBelowHunger = builder.feedBelowHunger;
+        this.playBelowHappiness = builder.playBelowHappiness;
+        this.sleepAboveTiredness = builder.sleepAboveTiredness;
+        this.giftAboveTiredness = builder.giftAboveTiredness;
+        this.healBelowHealth = builder.healBelowHealth;
+        this.shops = builder.shops;
+    }
+
+    /**
+     * Starts building a strategy with every action disabled.
+     *
+     * @param name         the strategy name, used in reports
+     * @param checkSeconds the average time between the player's visits
+     * @return a builder for the strategy
+     */
+    public static Builder builder(String name, double checkSeconds) {
+        return new Builder(name, checkSeconds);
+    }
+
+    /**
+     * A player who only drops in every three minutes to feed the duck.
+     *
+     * @return the strategy
+     */
+    public static CareStrategy neglectful() {
+        return builder("neglectful", 180)
+                .feedBelow(6)
+                .shops(true)
+                .build();
+    }
+
+    /**
+     * A player who checks every couple of minutes and reacts once things look bad.
+     *
+     * @return the strategy
+     */
+    public static CareStrategy casual() {
+        return builder("casual", 120)
+                .walkBelow(25, 10)
+                .feedBelow(5)
+                .playBelow(50)
+                .sleepAbove(80)
+                .healBelow(5)
+                .shops(true)
+                .build();
+    }
+
+    /**
+     * A player who checks every 20 seconds and keeps every stat topped up.
+     *
+     * @return the strategy
+     */
+    public static CareStrategy attentive() {
+        return builder("attentive", 20)
+                .walkBelow(40, 5)
+                .feedBelow(9)
+                .playBelow(80)
+                .sleepAbove(55)
+                .giftAbove(90)
+                .healBelow(9)
+                .shops(true)
+                .build();
+    }
+
+    /**
+     * Retrieves the strategy name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the average time between the player's visits.
+     *
+     * @return the interval in seconds
+     */
+    public double getCheckSeconds() {
+        return checkSeconds;
+    }
+
+    /**
+     * Returns the happiness below which the duck is walked.
+     *
+     * @return the threshold, or -1 if the player never walks
+     */
+    public int getWalkBelowHappiness() {
+        return walkBelowHappiness;
+    }
+
+    /**
+     * Returns how long each walk lasts.
+     *
+     * @return the walk length in seconds
+     */
+    public int getWalkSeconds() {
+        return walkSeconds;
+    }
+
+    /**
+     * Returns the hunger below which the duck is fed.
+     *
+     * @return the threshold, or -1 if the player never feeds
+     */
+    public int getFeedBelowHunger() {
+        return feedBelowHunger;
+    }
+
+    /**
+     * Returns the happiness below which the player plays with a toy.
+     *
+     * @return the threshold, or -1 if the player never plays
+     */
+    public int getPlayBelowHappiness() {
+        return playBelowHappiness;
+    }
+
+    /**
+     * Returns the tiredness above which the duck is put to sleep.
+     *
+     * @return the threshold, or -1 if the player never sleeps
+     */
+    public int getSleepAboveTiredness() {
+        return sleepAboveTiredness;
+    }
+
+    /**
+     * Returns the tiredness above which a night cap is given.
+     *
+     * @return the threshold, or -1 if the player never gifts
+     */
+    public int getGiftAboveTiredness() {
+        return giftAboveTiredness;
+    }
+
+    /**
+     * Returns the health below which the duck visits the vet.
+     *
+     * @return the threshold, or -1 if the player never heals
+     */
+    public int getHealBelowHealth() {
+        return healBelowHealth;
+    }
+
+    /**
+     * Checks whether the player restocks at the store.
+     *
+     * @return true if the player shops
+     */
+    public boolean shops() {
+        return shops;
+    }
+
+    /**
+     * Builds a {@link CareStrategy}.
+     */
+    public static final class Builder {
+        private final String name;
+        private final double checkSeconds;
+        private int walkBelowHappiness = -1;
+        private int walkSeconds = 0;
+        private int feedBelowHunger = -1;
+        private int playBelowHappiness = -1;
+        private int sleepAboveTiredness = -1;
+        private int giftAboveTiredness = -1;
+        private int healBelowHealth = -1;
+        private boolean shops = false;
+
+        private Builder(String name, double checkSeconds) {
+            if (checkSeconds <= 0) {
+                throw new IllegalArgumentException("Strategy " + name + " needs a positive check interval");
+            }
+            this.name = name;
+            this.checkSeconds = checkSeconds;
+        }
+
+        /**
+         * Walks the duck in the park while happiness is below a threshold or the duck is angry.
+         *
+         * @param happiness the happiness below which to walk
+         * @param seconds   how long each walk lasts
+         * @return this builder
+         */
+        public Builder walkBelow(int happiness, int seconds) {
+            this.walkBelowHappiness = happiness;
+            this.walkSeconds = seconds;
+            return this;
+        }
+
+        /**
+         * Feeds the duck back to full once hunger is below a threshold.
+         *
+         * @param hunger the hunger below which to feed
+         * @return this builder
+         */
+        public Builder feedBelow(int hunger) {
+            this.feedBelowHunger = hunger;
+            return this;
+        }
+
+        /**
+         * Plays with a toy while happiness is below a threshold.
+         *
+         * @param happiness the happiness below which to play
+         * @return this builder
+         */
+        public Builder playBelow(int happiness) {
+            this.playBelowHappiness = happiness;
+            return this;
+        }
+
+        /**
+         * Puts the duck to sleep once tiredness is above a threshold.
+         *
+         * @param tiredness the tiredness above which to sleep
+         * @return this builder
+         */
+        public Builder sleepAbove(int tiredness) {
+            this.sleepAboveTiredness = tiredness;
+            return this;
+        }
+
+        /**
+         * Gives a night cap once tiredness is above a threshold and sleeping was not possible.
+         *
+         * @param tiredness the tiredness above which to gift
+         * @return this builder
+         */
+        public Builder giftAbove(int tiredness) {
+            this.giftAboveTiredness = tiredness;
+            return this;
+        }
+
+        /**
+         * Visits the vet once health is below a threshold.
+         *
+         * @param health the health below which to heal
+         * @return this builder
+         */
+        public Builder healBelow(int health) {
+            this.healBelowHealth = health;
+            return this;
+        }
+
+        /**
+         * Buys food, toys and night caps the strategy needs when the inventory runs out.
+         *
+         * @param shops true to shop
+         * @return this builder
+         */
+        public Builder shops(boolean shops) {
+            this.shops = shops;
+            return this;
+        }
+
+        /**
+         * Creates the strategy.
+         *
+         * @return the immutable strategy
+         */
+        public CareStrategy build() {
+            return new CareStrategy(this);
+        }
+    }
+}
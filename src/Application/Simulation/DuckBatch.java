@@ -0,0 +1,189 @@
+package Application.Simulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import Application.Duck;
+
+/**
+ * Stats of many ducks stored column by column for bulk simulation.
+ * <p>
+ * Each statistic is one primitive array indexed by duck, with the colour kept as a byte code
+ * into a small table of colour names. A {@link BatchStatEngine} walks these arrays in tight
+ * loops, which is far cheaper per duck than ticking individual {@link Duck} objects.
+ * </p>
+ */
+public final class DuckBatch {
+
+    // One column per Stat, indexed by Stat.ordinal().
+    private final int[][] stats = new int[Stat.values().length][];
+    private byte[] colours;
+    private boolean[] dead;
+    private final List<String> colourNames = new ArrayList<>();
+    private int size = 0;
+
+    /**
+     * Creates an empty batch.
+     *
+     * @param capacity the number of ducks to allocate room for; the batch grows as needed
+     */
+    public DuckBatch(int capacity) {
+        int initial = Math.max(1, capacity);
+        for (int s = 0; s < stats.length; s++) {
+            stats[s] = new int[initial];
+        }
+        colours = new byte[initial];
+        dead = new boolean[initial];
+    }
+
+    /**
+     * Adds a duck with the starting stats of a new {@link Duck}.
+     *
+     * @param colour the duck colour
+     * @return the index of the new duck
+     */
+    public int add(String colour) {
+        int index = append(colour, false);
+        stats[Stat.HEALTH.ordinal()][index] = 10;
+        stats[Stat.HUNGER.ordinal()][index] = 10;
+        stats[Stat.HAPPINESS.ordinal()][index] = 100;
+        stats[Stat.HOUR.ordinal()][index] = 8;
+        return index;
+    }
+
+    /**
+     * Adds a copy of an existing duck's stats.
+     *
+     * @param duck the duck to copy
+     * @return the index of the new duck
+     */
+    public int add(Duck duck) {
+        int index = append(duck.getColour(), duck.isDead());
+        for (Stat stat : Stat.values()) {
+            stats[stat.ordinal()][index] = stat.get(duck);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the number of ducks in the batch.
+     *
+     * @return the duck count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Reads one statistic of one duck.
+     *
+     * @param stat  the statistic
+     * @param index the duck's index
+     * @return the value
+     */
+    public int get(Stat stat, int index) {
+        checkIndex(index);
+        return stats[stat.ordinal()][index];
+    }
+
+    /**
+     * Retrieves the column holding a statistic for every duck.
+     * <p>
+     * The array is live and may be longer than {@link #size()}; entries past the size are unused.
+     * </p>
+     *
+     * @param stat the statistic
+     * @return the backing array
+     */
+    public int[] column(Stat stat) {
+        return stats[stat.ordinal()];
+    }
+
+    /**
+     * Retrieves the colour of one duck.
+     *
+     * @param index the duck's index
+     * @return the colour name
+     */
+    public String getColour(int index) {
+        checkIndex(index);
+        return colourNames.get(colours[index]);
+    }
+
+    /**
+     * Checks whether one duck has died.
+     *
+     * @param index the duck's index
+     * @return true if the duck is dead
+     */
+    public boolean isDead(int index) {
+        checkIndex(index);
+        return dead[index];
+    }
+
+    /**
+     * Returns the distinct colours in the batch, indexed by colour code.
+     *
+     * @return the colour names
+     */
+    List<String> colourNames() {
+        return colourNames;
+    }
+
+    /**
+     * Retrieves every stat column, indexed by {@link Stat#ordinal()}.
+     *
+     * @return the backing arrays
+     */
+    int[][] stats() {
+        return stats;
+    }
+
+    /**
+     * Retrieves the colour code of every duck.
+     *
+     * @return the backing array
+     */
+    byte[] colourCodes() {
+        return colours;
+    }
+
+    /**
+     * Retrieves the death flag of every duck.
+     *
+     * @return the backing array
+     */
+    boolean[] deadFlags() {
+        return dead;
+    }
+
+    // Reserves a slot, growing every column if needed.
+    private int append(String colour, boolean isDead) {
+        if (size == colours.length) {
+            int capacity = colours.length * 2;
+            for (int s = 0; s < stats.length; s++) {
+                stats[s] = Arrays.copyOf(stats[s], capacity);
+            }
+            colours = Arrays.copyOf(colours, capacity);
+            dead = Arrays.copyOf(dead, capacity);
+        }
+        int code = colourNames.indexOf(colour);
+        if (code < 0) {
+            if (colourNames.size() == Byte.MAX_VALUE) {
+                throw new IllegalStateException("A batch supports at most " + Byte.MAX_VALUE + " colours");
+            }
+            code = colourNames.size();
+            colourNames.add(colour);
+        }
+        colours[size] = (byte) code;
+        dead[size] = isDead;
+        return size++;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Duck " + index + " is outside a batch of " + size);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package Application.Simulation;
+
+import java.util.List;
+
+import Application.Duck;
+
+/**
+ * Brings a loaded duck up to date with the time that passed while the game was closed.
+ * <p>
+ * The same rules that run during play are applied for every tick between the save's timestamp
+ * and now, plus the coin a living duck earns every 4 seconds. The engine skips between stat
+ * thresholds in bulk, so catching up on a month away costs about the same as a minute.
+ * </p>
+ */
+public final class OfflineProgress {
+
+    private OfflineProgress() {
+    }
+
+    /**
+     * Returns the rules applied while the game was closed.
+     *
+     * @return the game's stat rules followed by coin income
+     * @see StatRules#get()
+     */
+    public static List<StatRule> rules() {
+        List<StatRule> rules = StatRules.get();
+        rules.add(StatRule.builder("coins", 8)
+                .always(Stat.COINS, 1)
+                .build());
+        return rules;
+    }
+
+    /**
+     * Advances a duck by the whole ticks between two wall-clock times.
+     *
+     * @param duck        the duck to update
+     * @param lastUpdated when the duck was saved, in milliseconds since the epoch
+     * @param now         the current time, in milliseconds since the epoch
+     * @return the number of ticks simulated; 0 if the save is from the future
+     */
+    public static long catchUp(Duck duck, long lastUpdated, long now) {
+        if (now <= lastUpdated) {
+            return 0;
+        }
+        long ticks = (now - lastUpdated) / StatEngine.TICK_MILLIS;
+        new StatEngine(rules()).advance(duck, ticks);
+        return ticks;
+    }
+}
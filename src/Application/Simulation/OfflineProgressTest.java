@@ -0,0 +1,63 @@
+package Application.Simulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+import Application.Duck;
+
+/**
+ * Unit Test suite for the {@link OfflineProgress} class.
+ * <p>
+ * This class verifies that a duck loaded after time away ends up exactly where it would have
+ * been had the game kept running, including coin income, and that clock skew does no harm.
+ * </p>
+ * <p>
+ * <b>Testing Approach:</b> Black-box comparison of the catch-up result against stepping the
+ * same rules one tick at a time. The tests run without the JavaFX toolkit.
+ * </p>
+ *
+ * <b>Test Category:</b> Unit Testing (Game Logic Simulation)<br>
+ * <b>Automation:</b> Automated using JUnit<br>
+ * <b>Requirement:</b> Offline progress must match continuous play and cost the same however long the game was closed.<br>
+ */
+public class OfflineProgressTest {
+
+    /**
+     * Test Case Name: Catch Up Matches Continuous Play
+     * <p><b>Test Case Description:</b> A week away gives the same stats and coins as a week of ticks.</p>
+     */
+    @Test
+    public void testCatchUpMatchesContinuousPlay() {
+        long week = 7L * 24 * 60 * 60 * 1000;
+        Duck offline = new Duck("Offline");
+        Duck stepped = new Duck("Stepped");
+        offline.setColour("blue");
+        stepped.setColour("blue");
+
+        long ticks = OfflineProgress.catchUp(offline, 1_000_000L, 1_000_000L + week + 499);
+        assertEquals(week / StatEngine.TICK_MILLIS, ticks);
+
+        StatEngine engine = new StatEngine(OfflineProgress.rules());
+        for (long i = 0; i < ticks; i++) {
+            engine.tick(stepped);
+        }
+        for (Stat stat : Stat.values()) {
+            assertEquals(stat.toString(), stat.get(stepped), stat.get(offline));
+        }
+        assertTrue(offline.isDead());
+        assertTrue(offline.getCoins() > 0);
+    }
+
+    /**
+     * Test Case Name: Future Save
+     * <p><b>Test Case Description:</b> A save stamped later than now, e.g. after a clock change, is left untouched.</p>
+     */
+    @Test
+    public void testFutureSave() {
+        Duck duck = new Duck("Future");
+        assertEquals(0, OfflineProgress.catchUp(duck, 5_000L, 1_000L));
+        assertEquals(100, duck.getHappiness());
+        assertEquals(0, duck.getCoins());
+    }
+}
@@ -0,0 +1,152 @@
+package Application.Simulation;
+
+import Application.Duck;
+
+/**
+ * A duck statistic that simulation rules can read and change.
+ * <p>
+ * Changes go through the duck's own setters, so every clamp and the death check in
+ * {@link Duck#setHealth(int)} apply exactly as they do during normal play.
+ * </p>
+ */
+public enum Stat {
+    HEALTH,
+    HUNGER,
+    HAPPINESS,
+    TIREDNESS,
+    SCORE,
+    COINS,
+    /** Hour of the duck's day; passing midnight starts the next day. */
+    HOUR;
+
+    /**
+     * Reads the statistic from a duck.
+     *
+     * @param duck the duck
+     * @return the current value
+     */
+    public int get(Duck duck) {
+        switch (this) {
+            case HEALTH:
+                return duck.getHealth();
+            case HUNGER:
+                return duck.getHunger();
+            case HAPPINESS:
+                return duck.getHappiness();
+            case TIREDNESS:
+                return duck.getTiredness();
+            case SCORE:
+                return duck.getScore();
+            case HOUR:
+                return duck.getHour();
+            default:
+                return duck.getCoins();
+        }
+    }
+
+    /**
+     * Adjusts the statistic on a duck by a delta.
+     *
+     * @param duck  the duck
+     * @param delta the amount to add (can be negative)
+     */
+    public void change(Duck duck, int delta) {
+        switch (this) {
+            case HEALTH:
+                duck.setHealth(delta);
+                break;
+            case HUNGER:
+                duck.setHunger(delta);
+                break;
+            case HAPPINESS:
+                duck.setHappiness(delta);
+                break;
+            case TIREDNESS:
+                duck.setTiredness(delta);
+                break;
+            case SCORE:
+                duck.setScore(delta);
+                break;
+            case HOUR:
+                duck.advanceHours(delta);
+                break;
+            default:
+                duck.setCoins(delta);
+        }
+    }
+
+    /**
+     * Computes the value a change leaves behind, clamped as the duck's setter would.
+     * <p>
+     * Health is not clamped here; callers treat a result of 0 or less as death. The hour
+     * wraps at midnight.
+     * </p>
+     *
+     * @param value the current value
+     * @param delta the change
+     * @return the new value
+     */
+    int applyTo(int value, int delta) {
+        int changed = value + delta;
+        switch (this) {
+            case HUNGER:
+                return Math.max(0, Math.min(10, changed));
+            case HAPPINESS:
+            case TIREDNESS:
+                return Math.max(0, Math.min(100, changed));
+            case SCORE:
+                return Math.max(0, changed);
+            case HOUR:
+                return delta > 0 ? changed % 24 : value;
+            default:
+                return changed;
+        }
+    }
+
+    /**
+     * Returns the values at which the duck's setter stops or reacts to this statistic.
+     * <p>
+     * These are the clamp bounds, plus 0 for health because reaching it kills the duck, and
+     * the last hour of the day for the hour because the next one wraps to 0.
+     * </p>
+     *
+     * @return the limits in ascending order, possibly empty
+     */
+    int[] limits() {
+        switch (this) {
+            case HEALTH:
+            case SCORE:
+                return new int[] { 0 };
+            case HUNGER:
+                return new int[] { 0, 10 };
+            case HAPPINESS:
+            case TIREDNESS:
+                return new int[] { 0, 100 };
+            case HOUR:
+                return new int[] { 0, 23 };
+            default:
+                return new int[0];
+        }
+    }
+
+    /**
+     * Checks whether a change would leave this statistic where it is because it is clamped.
+     *
+     * @param value the current value
+     * @param delta the change
+     * @return true if the setter would clamp the value back to {@code value}
+     */
+    boolean isPinned(int value, int delta) {
+        switch (this) {
+            case HUNGER:
+                return (value == 0 && delta < 0) || (value == 10 && delta > 0);
+            case HAPPINESS:
+            case TIREDNESS:
+                return (value == 0 && delta < 0) || (value == 100 && delta > 0);
+            case SCORE:
+                return value == 0 && delta < 0;
+            default:
+                return false;
+        }
+    }
+}
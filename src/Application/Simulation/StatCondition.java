@@ -0,0 +1,228 @@
+package Application.Simulation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+import Application.Duck;
+
+/**
+ * A condition on a duck's stats built from simple comparisons.
+ * <p>
+ * A condition is a disjunction of conjunctions of comparisons such as {@code hunger <= 5}.
+ * Unlike an arbitrary predicate, the engine can read the thresholds a condition depends on,
+ * which lets it skip long stretches of time in which no condition can change.
+ * </p>
+ * <p>
+ * Conditions are compiled when built into flat arrays of statistic, operator code and value,
+ * so testing one reads a few ints per comparison with no string or collection handling.
+ * </p>
+ */
+public final class StatCondition implements Predicate<Duck> {
+
+    /** A condition that always holds. */
+    public static final StatCondition ALWAYS = new StatCondition(Collections.singletonList(Collections.emptyList()));
+
+    private static final String[] OPERATORS = { "<", "<=", ">", ">=", "==", "!=" };
+    private static final int LT = 0;
+    private static final int LE = 1;
+    private static final int GT = 2;
+    private static final int GE = 3;
+    private static final int EQ = 4;
+
+    // Any one of these clauses must hold; every comparison in a clause must hold.
+    private final List<List<Comparison>> clauses;
+
+    // Compiled form: comparison i tests stats[i] against values[i] with ops[i]; clause c
+    // covers comparisons clauseEnds[c - 1] (or 0) up to clauseEnds[c].
+    private final Stat[] stats;
+    private final int[] ops;
+    private final int[] values;
+    private final int[] clauseEnds;
+
+    private StatCondition(List<List<Comparison>> clauses) {
+        this.clauses = clauses;
+        int count = 0;
+        for (List<Comparison> clause : clauses) {
+            count += clause.size();
+        }
+        stats = new Stat[count];
+        ops = new int[count];
+        values = new int[count];
+        clauseEnds = new int[clauses.size()];
+        int i = 0;
+        for (int c = 0; c < clauses.size(); c++) {
+            for (Comparison comparison : clauses.get(c)) {
+                stats[i] = comparison.stat;
+                ops[i] = comparison.op;
+                values[i] = comparison.value;
+                i++;
+            }
+            clauseEnds[c] = i;
+        }
+    }
+
+    /**
+     * Creates a single comparison.
+     *
+     * @param stat     the statistic to compare
+     * @param operator one of {@code <, <=, >, >=, ==, !=}
+     * @param value    the value to compare against
+     * @return the condition
+     * @throws IllegalArgumentException if the operator is not recognised
+     */
+    public static StatCondition compare(Stat stat, String operator, int value) {
+        Comparison comparison = new Comparison(stat, operator, value);
+        return new StatCondition(Collections.singletonList(Collections.singletonList(comparison)));
+    }
+
+    /**
+     * Combines this condition with another so that both must hold.
+     *
+     * @param other the other condition
+     * @return the combined condition
+     */
+    public StatCondition and(StatCondition other) {
+        List<List<Comparison>> combined = new ArrayList<>();
+        for (List<Comparison> left : clauses) {
+            for (List<Comparison> right : other.clauses) {
+                List<Comparison> clause = new ArrayList<>(left);
+                clause.addAll(right);
+                combined.add(Collections.unmodifiableList(clause));
+            }
+        }
+        return new StatCondition(Collections.unmodifiableList(combined));
+    }
+
+    /**
+     * Combines this condition with another so that either may hold.
+     *
+     * @param other the other condition
+     * @return the combined condition
+     */
+    public StatCondition or(StatCondition other) {
+        List<List<Comparison>> combined = new ArrayList<>(clauses);
+        combined.addAll(other.clauses);
+        return new StatCondition(Collections.unmodifiableList(combined));
+    }
+
+    @Override
+    public boolean test(Duck duck) {
+        int start = 0;
+        for (int c = 0; c < clauseEnds.length; c++) {
+            int end = clauseEnds[c];
+            int i = start;
+            while (i < end && compare(ops[i], stats[i].get(duck), values[i])) {
+                i++;
+            }
+            if (i == end) {
+                return true;
+            }
+            start = end;
+        }
+        return false;
+    }
+
+    /**
+     * Tests the condition against one duck of a {@link DuckBatch}.
+     *
+     * @param columns the batch's stat columns, indexed by {@link Stat#ordinal()}
+     * @param index   the duck's index in the batch
+     * @return true if the condition holds for that duck
+     */
+    boolean test(int[][] columns, int index) {
+        int start = 0;
+        for (int c = 0; c < clauseEnds.length; c++) {
+            int end = clauseEnds[c];
+            int i = start;
+            while (i < end && compare(ops[i], columns[stats[i].ordinal()][index], values[i])) {
+                i++;
+            }
+            if (i == end) {
+                return true;
+            }
+            start = end;
+        }
+        return false;
+    }
+
+    /**
+     * Adds every value this condition compares a statistic against to a map of thresholds.
+     *
+     * @param thresholds the thresholds collected so far, keyed by statistic
+     */
+    void collectThresholds(Map<Stat, Set<Integer>> thresholds) {
+        for (int i = 0; i < stats.length; i++) {
+            thresholds.computeIfAbsent(stats[i], s -> new TreeSet<>()).add(values[i]);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (int c = 0; c < clauses.size(); c++) {
+            if (c > 0) {
+                text.append(" || ");
+            }
+            List<Comparison> clause = clauses.get(c);
+            if (clause.isEmpty()) {
+                text.append("true");
+            }
+            for (int i = 0; i < clause.size(); i++) {
+                if (i > 0) {
+                    text.append(" && ");
+                }
+                text.append(clause.get(i));
+            }
+        }
+        return text.toString();
+    }
+
+    private static boolean compare(int op, int actual, int value) {
+        switch (op) {
+            case LT:
+                return actual < value;
+            case LE:
+                return actual <= value;
+            case GT:
+                return actual > value;
+            case GE:
+                return actual >= value;
+            case EQ:
+                return actual == value;
+            default:
+                return actual != value;
+        }
+    }
+
+    // One "stat operator value" test.
+    private static final class Comparison {
+        private final Stat stat;
+        private final int op;
+        private final int value;
+
+        private Comparison(Stat stat, String operator, int value) {
+            int op = -1;
+            for (int i = 0; i < OPERATORS.length; i++) {
+                if (OPERATORS[i].equals(operator)) {
+                    op = i;
+                }
+            }
+            if (op < 0) {
+                throw new IllegalArgumentException("Unknown comparison operator: " + operator);
+            }
+            this.stat = stat;
+            this.op = op;
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return stat.name().toLowerCase() + " " + OPERATORS[op] + " " + value;
+        }
+    }
+}
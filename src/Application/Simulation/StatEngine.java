@@ -0,0 +1,308 @@
+package Application.Simulation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import Application.Duck;
+
+/**
+ * Deterministic, fixed-step simulation of a duck's stats over time.
+ * <p>
+ * Time advances in ticks of {@link #TICK_MILLIS}. On tick {@code t} (counting from 1) every
+ * rule whose period for the duck's colour divides {@code t} fires, in rule order. No rule
+ * fires while the duck is dead, but ticks still count so rules stay in phase. The engine uses no JavaFX classes, so hours of play can be
+ * simulated on any thread in milliseconds; the game drives it from a single timeline.
+ * </p>
+ * <p>
+ * When every condition is a {@link StatCondition} and no two rules change the same statistic,
+ * {@link #advance(Duck, long)} does not step tick by tick. Between two thresholds no condition
+ * can change, so each rule's firings over that stretch are applied at once; the cost depends
+ * on how many thresholds are crossed, not on how much time passes.
+ * </p>
+ */
+public class StatEngine {
+
+    /** Length of one simulation tick in milliseconds. */
+    public static final long TICK_MILLIS = 500;
+
+    private final List<StatRule> rules;
+    // Sorted values at which some condition or setter changes behaviour, per statistic;
+    // null when the rules cannot be skipped through in bulk.
+    private final Map<Stat, int[]> breakpoints;
+    // Periods for the colour last simulated, so a tick does no colour lookups.
+    private String cachedColour;
+    private int[] cachedPeriods;
+    private long tickCount = 0;
+
+    /**
+     * Creates an engine that applies the given rules.
+     *
+     * @param rules the rules in the order they fire within a tick
+     */
+    public StatEngine(List<StatRule> rules) {
+        this.rules = Collections.unmodifiableList(new ArrayList<>(rules));
+        this.breakpoints = findBreakpoints(this.rules);
+    }
+
+    /**
+     * Creates an engine with the game's standard stat rules.
+     * <p>
+     * Periods are the original timer intervals expressed in 500 ms ticks:
+     * </p>
+     * <ul>
+     *   <li>happiness -1 every 3 s;</li>
+     *   <li>tiredness every 3 s (3.5 s for pink ducks): +2 at night (22:00 to 06:00), otherwise +1;</li>
+     *   <li>health -1 every 7 s (8.5 s for blue ducks) while hunger is 5 or less or tiredness is over 85;</li>
+     *   <li>hunger -1 every 8 s (7 s for pink and blue ducks) while tiredness is over 50;</li>
+     *   <li>score every 5 s: +10 when thriving, +5 when doing well, otherwise -2;</li>
+     *   <li>the duck's clock +1 hour every minute, so a day lasts 24 minutes of play.</li>
+     * </ul>
+     *
+     * @return a new engine at tick 0
+     */
+    public static StatEngine withDefaultRules() {
+        return new StatEngine(defaultRules());
+    }
+
+    /**
+     * Returns the game's standard stat rules.
+     *
+     * @return a new list of the default rules in firing order
+     * @see StatRules
+     */
+    public static List<StatRule> defaultRules() {
+        List<StatRule> rules = new ArrayList<>();
+        rules.add(StatRule.builder("happiness", 6)
+                .always(Stat.HAPPINESS, -1)
+                .build());
+        rules.add(StatRule.builder("tiredness", 6)
+                .period("pink", 7)
+                .when(StatCondition.compare(Stat.HOUR, ">=", 22)
+                        .or(StatCondition.compare(Stat.HOUR, "<", 6)), Stat.TIREDNESS, 2)
+                .always(Stat.TIREDNESS, 1)
+                .build());
+        rules.add(StatRule.builder("health", 14)
+                .period("blue", 17)
+                .when(StatCondition.compare(Stat.HUNGER, "<=", 5)
+                        .or(StatCondition.compare(Stat.TIREDNESS, ">", 85)), Stat.HEALTH, -1)
+                .build());
+        rules.add(StatRule.builder("hunger", 16)
+                .period("pink", 14)
+                .period("blue", 14)
+                .when(StatCondition.compare(Stat.TIREDNESS, ">", 50), Stat.HUNGER, -1)
+                .build());
+        rules.add(StatRule.builder("score", 10)
+                .when(StatCondition.compare(Stat.HUNGER, ">", 7)
+                        .and(StatCondition.compare(Stat.HEALTH, "==", 10))
+                        .and(StatCondition.compare(Stat.HAPPINESS, ">", 75))
+                        .and(StatCondition.compare(Stat.TIREDNESS, "<", 60)), Stat.SCORE, 10)
+                .when(StatCondition.compare(Stat.HUNGER, ">", 4)
+                        .and(StatCondition.compare(Stat.HEALTH, ">", 6))
+                        .and(StatCondition.compare(Stat.HAPPINESS, ">", 60))
+                        .and(StatCondition.compare(Stat.TIREDNESS, "<", 70)), Stat.SCORE, 5)
+                .always(Stat.SCORE, -2)
+                .build());
+        rules.add(StatRule.builder("clock", 120)
+                .always(Stat.HOUR, 1)
+                .build());
+        return rules;
+    }
+
+    /**
+     * Retrieves the rules applied by this engine.
+     *
+     * @return an unmodifiable list of rules in firing order
+     */
+    public List<StatRule> getRules() {
+        return rules;
+    }
+
+    /**
+     * Returns the number of ticks simulated so far.
+     *
+     * @return the tick count
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Sets the tick counter, for example to resume a saved game in phase with its rules.
+     *
+     * @param tickCount the tick count
+     */
+    public void setTickCount(long tickCount) {
+        this.tickCount = tickCount;
+    }
+
+    /**
+     * Advances the simulation by one tick.
+     *
+     * @param duck the duck to update
+     */
+    public void tick(Duck duck) {
+        step(duck, 1);
+    }
+
+    /**
+     * Advances the simulation by a number of ticks.
+     * <p>
+     * The result is always identical to calling {@link #tick(Duck)} {@code ticks} times.
+     * </p>
+     *
+     * @param duck  the duck to update
+     * @param ticks the number of ticks to simulate
+     */
+    public void advance(Duck duck, long ticks) {
+        if (breakpoints == null) {
+            step(duck, ticks);
+            return;
+        }
+        int[] periods = periodsFor(duck.getColour());
+        StatRule.Outcome[] chosen = new StatRule.Outcome[periods.length];
+        long remaining = ticks;
+        while (remaining > 0) {
+            if (duck.isDead()) {
+                tickCount += remaining;
+                return;
+            }
+            long run = remaining;
+            for (int r = 0; r < periods.length; r++) {
+                chosen[r] = rules.get(r).select(duck);
+                run = Math.min(run, ticksWithinCell(duck, chosen[r], periods[r]));
+            }
+            if (run == 0) {
+                // A statistic sits on a threshold and the next tick moves it off.
+                step(duck, 1);
+                remaining--;
+                continue;
+            }
+            for (int r = 0; r < periods.length; r++) {
+                long firings = (tickCount + run) / periods[r] - tickCount / periods[r];
+                if (chosen[r] != null && firings > 0) {
+                    chosen[r].getStat().change(duck, Math.toIntExact(chosen[r].getDelta() * firings));
+                }
+            }
+            tickCount += run;
+            remaining -= run;
+        }
+    }
+
+    // Fires rules one tick at a time.
+    private void step(Duck duck, long ticks) {
+        // Resolve colour-specific periods once for the whole run.
+        int[] periods = periodsFor(duck.getColour());
+        for (long i = 0; i < ticks; i++) {
+            tickCount++;
+            for (int r = 0; r < periods.length; r++) {
+                // A rule earlier in the tick may have killed the duck, which stops the rest.
+                if (tickCount % periods[r] == 0 && !duck.isDead()) {
+                    rules.get(r).fire(duck);
+                }
+            }
+        }
+    }
+
+    // Returns how many ticks can pass before this outcome could move its statistic onto or
+    // past a breakpoint, or Long.MAX_VALUE if it never can.
+    private long ticksWithinCell(Duck duck, StatRule.Outcome outcome, int period) {
+        if (outcome == null || outcome.getDelta() == 0) {
+            return Long.MAX_VALUE;
+        }
+        Stat stat = outcome.getStat();
+        int value = stat.get(duck);
+        int delta = outcome.getDelta();
+        if (stat.isPinned(value, delta)) {
+            return Long.MAX_VALUE;
+        }
+
+        // Firings that keep the value strictly between its neighbouring breakpoints.
+        long safeFirings;
+        int[] points = breakpoints.get(stat);
+        int next = nextBreakpoint(points, value, delta > 0);
+        if (next == value) {
+            safeFirings = 0;
+        } else if (next == Integer.MIN_VALUE || next == Integer.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        } else {
+            safeFirings = (Math.abs((long) next - value) - 1) / Math.abs(delta);
+        }
+        // The tick just before the firing that could cross.
+        return (tickCount / period + safeFirings + 1) * period - 1 - tickCount;
+    }
+
+    // Finds value itself if it is a breakpoint, otherwise the nearest one in the direction of travel,
+    // or Integer.MAX_VALUE / MIN_VALUE if there is none that way.
+    private static int nextBreakpoint(int[] points, int value, boolean upward) {
+        int found = upward ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+        for (int point : points) {
+            if (point == value) {
+                return value;
+            }
+            if (upward && point > value && point < found) {
+                found = point;
+            } else if (!upward && point < value && point > found) {
+                found = point;
+            }
+        }
+        return found;
+    }
+
+    // Collects thresholds and setter limits per statistic, or returns null if a condition is
+    // opaque or two rules change the same statistic.
+    private static Map<Stat, int[]> findBreakpoints(List<StatRule> rules) {
+        Map<Stat, Set<Integer>> thresholds = new EnumMap<>(Stat.class);
+        Map<Stat, StatRule> owners = new EnumMap<>(Stat.class);
+        for (StatRule rule : rules) {
+            for (StatRule.Outcome outcome : rule.getOutcomes()) {
+                if (!(outcome.getCondition() instanceof StatCondition)) {
+                    return null;
+                }
+                StatRule owner = owners.putIfAbsent(outcome.getStat(), rule);
+                if (owner != null && owner != rule) {
+                    return null;
+                }
+                ((StatCondition) outcome.getCondition()).collectThresholds(thresholds);
+            }
+        }
+
+        Map<Stat, int[]> breakpoints = new EnumMap<>(Stat.class);
+        for (Stat stat : Stat.values()) {
+            Set<Integer> points = new TreeSet<>(thresholds.getOrDefault(stat, Collections.emptySet()));
+            for (int limit : stat.limits()) {
+                points.add(limit);
+            }
+            breakpoints.put(stat, points.stream().mapToInt(Integer::intValue).toArray());
+        }
+        return breakpoints;
+    }
+
+    /**
+     * Returns each rule's period for a duck colour, in rule order.
+     * <p>
+     * The result for the most recent colour is cached, so a duck ticked every 500 ms resolves
+     * its periods once rather than on every tick. Callers must not modify the returned array.
+     * </p>
+     *
+     * @param colour the duck colour
+     * @return the periods in ticks
+     */
+    protected int[] periodsFor(String colour) {
+        if (cachedPeriods != null && Objects.equals(colour, cachedColour)) {
+            return cachedPeriods;
+        }
+        int[] periods = new int[rules.size()];
+        for (int r = 0; r < periods.length; r++) {
+            periods[r] = rules.get(r).periodFor(colour);
+        }
+        cachedColour = colour;
+        cachedPeriods = periods;
+        return periods;
+    }
+}
@@ -0,0 +1,226 @@
+package Application.Simulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import Application.Duck;
+
+/**
+ * Unit Test suite for the {@link StatEngine} class.
+ * <p>
+ * This class verifies that the fixed-step engine reproduces the game's stat timers: the
+ * period of every rule for each duck colour, the conditions under which health and hunger
+ * fall, the score tiers, and that nothing changes once the duck has died.
+ * </p>
+ * <p>
+ * <b>Testing Approach:</b> Black-box testing of simulated outcomes against values worked out
+ * by hand from the original timer intervals. The tests run without the JavaFX toolkit.
+ * </p>
+ *
+ * <b>Test Category:</b> Unit Testing (Game Logic Simulation)<br>
+ * <b>Automation:</b> Automated using JUnit<br>
+ * <b>Requirement:</b> Stat simulation must be deterministic and match the in-game timers exactly.<br>
+ */
+public class StatEngineTest {
+
+    private StatEngine engine;
+    private Duck duck;
+
+    /**
+     * Prepares a fresh engine and a fresh white duck before each test.
+     */
+    @Before
+    public void setUp() {
+        engine = StatEngine.withDefaultRules();
+        duck = new Duck("SimDuck");
+    }
+
+    /**
+     * Test Case Name: Headless Duck
+     * <p><b>Test Case Description:</b> Confirms a duck can be created and changed without a view or toolkit,
+     * and that the model holds nothing beyond JavaFX properties.</p>
+     */
+    @Test
+    public void testHeadlessDuck() {
+        for (Field field : Duck.class.getDeclaredFields()) {
+            String type = field.getType().getName();
+            assertFalse(field.getName(), type.startsWith("javafx.scene") || type.startsWith("com.sun"));
+            assertFalse(field.getName(), type.equals("Application.DuckView"));
+        }
+        engine.advance(duck, 1);
+        assertEquals(1, engine.getTickCount());
+    }
+
+    /**
+     * Test Case Name: White Duck First Minute
+     * <p><b>Test Case Description:</b> Checks happiness, tiredness and score after 60 seconds (120 ticks).</p>
+     */
+    @Test
+    public void testWhiteDuckFirstMinute() {
+        engine.advance(duck, 120);
+        assertEquals(120, engine.getTickCount());
+        assertEquals(80, duck.getHappiness());   // -1 every 3 s
+        assertEquals(20, duck.getTiredness());   // +1 every 3 s
+        assertEquals(10, duck.getHealth());      // fed and rested
+        assertEquals(10, duck.getHunger());      // tiredness never above 50
+        // Score every 5 s: happiness stays above 75 all minute, so all twelve award +10.
+        assertEquals(12 * 10, duck.getScore());
+
+        // At 65 s and 70 s happiness is 79 and 77 (+10 each); at 75 s and 80 s it is
+        // 75 and 74, which drops the duck to the +5 tier.
+        engine.advance(duck, 40);
+        assertEquals(12 * 10 + 10 + 10 + 5 + 5, duck.getScore());
+    }
+
+    /**
+     * Test Case Name: Colour Periods
+     * <p><b>Test Case Description:</b> Verifies pink tiredness and blue health periods.</p>
+     */
+    @Test
+    public void testColourPeriods() {
+        Duck pink = new Duck("Pink");
+        pink.setColour("pink");
+        engine.advance(pink, 70); // 35 s: tiredness every 3.5 s
+        assertEquals(10, pink.getTiredness());
+
+        Duck blue = new Duck("Blue");
+        blue.setColour("blue");
+        blue.setHunger(-10);
+        StatEngine blueEngine = StatEngine.withDefaultRules();
+        blueEngine.advance(blue, 34); // 17 s: health every 8.5 s while starving
+        assertEquals(8, blue.getHealth());
+    }
+
+    /**
+     * Test Case Name: Hunger Needs Tiredness
+     * <p><b>Test Case Description:</b> Hunger only falls while tiredness is above 50.</p>
+     */
+    @Test
+    public void testHungerNeedsTiredness() {
+        duck.setTiredness(60);
+        engine.advance(duck, 32); // two hunger periods of 8 s
+        assertEquals(8, duck.getHunger());
+    }
+
+    /**
+     * Test Case Name: Death Stops Simulation
+     * <p><b>Test Case Description:</b> A starving duck dies and its stats then stay frozen.</p>
+     */
+    @Test
+    public void testDeathStopsSimulation() {
+        duck.setHunger(-10);
+        engine.advance(duck, 14 * 10); // ten health periods
+        assertTrue(duck.isDead());
+        assertEquals(0, duck.getHealth());
+
+        int happiness = duck.getHappiness();
+        int score = duck.getScore();
+        engine.advance(duck, 1000);
+        assertEquals(happiness, duck.getHappiness());
+        assertEquals(score, duck.getScore());
+    }
+
+    /**
+     * Test Case Name: Bulk Equals Stepping
+     * <p><b>Test Case Description:</b> Advancing in one call matches advancing one tick at a time.</p>
+     */
+    @Test
+    public void testBulkEqualsStepping() {
+        Duck stepped = new Duck("Stepped");
+        stepped.setColour("pink");
+        duck.setColour("pink");
+        StatEngine steppedEngine = StatEngine.withDefaultRules();
+
+        engine.advance(duck, 7200); // one hour
+        for (int i = 0; i < 7200; i++) {
+            steppedEngine.tick(stepped);
+        }
+        assertEquals(stepped.getHealth(), duck.getHealth());
+        assertEquals(stepped.getHunger(), duck.getHunger());
+        assertEquals(stepped.getHappiness(), duck.getHappiness());
+        assertEquals(stepped.getTiredness(), duck.getTiredness());
+        assertEquals(stepped.getScore(), duck.getScore());
+        assertEquals(stepped.isDead(), duck.isDead());
+    }
+
+    /**
+     * Test Case Name: Skipping Matches Stepping
+     * <p><b>Test Case Description:</b> For every colour and a spread of starting stats, advancing in
+     * uneven chunks matches stepping one tick at a time after every chunk.</p>
+     */
+    @Test
+    public void testSkippingMatchesStepping() {
+        String[] colours = { "white", "pink", "blue" };
+        int[][] starts = { { 0, 0, 0 }, { 55, -3, -30 }, { 84, -6, -20 } }; // tiredness, hunger, happiness deltas
+        for (String colour : colours) {
+            for (int[] start : starts) {
+                Duck skipped = new Duck("Skipped");
+                Duck stepped = new Duck("Stepped");
+                for (Duck d : new Duck[] { skipped, stepped }) {
+                    d.setColour(colour);
+                    d.setTiredness(start[0]);
+                    d.setHunger(start[1]);
+                    d.setHappiness(start[2]);
+                }
+                StatEngine skipping = StatEngine.withDefaultRules();
+                StatEngine stepping = StatEngine.withDefaultRules();
+
+                for (int chunk = 1; chunk < 4000; chunk = chunk * 3 + 7) {
+                    skipping.advance(skipped, chunk);
+                    for (int i = 0; i < chunk; i++) {
+                        stepping.tick(stepped);
+                    }
+                    String where = colour + " after tick " + stepping.getTickCount();
+                    assertEquals(where, stepping.getTickCount(), skipping.getTickCount());
+                    for (Stat stat : Stat.values()) {
+                        assertEquals(where + " " + stat, stat.get(stepped), stat.get(skipped));
+                    }
+                    assertEquals(where, stepped.isDead(), skipped.isDead());
+                }
+            }
+        }
+    }
+
+    /**
+     * Test Case Name: Day Cycle
+     * <p><b>Test Case Description:</b> The clock rule turns days over at midnight in bulk as well as
+     * tick by tick, and ducks tire twice as fast at night.</p>
+     */
+    @Test
+    public void testDayCycle() {
+        StatRule clock = null;
+        for (StatRule rule : StatEngine.defaultRules()) {
+            if (rule.getName().equals("clock")) {
+                clock = rule;
+            }
+        }
+        StatEngine clockOnly = new StatEngine(Collections.singletonList(clock));
+        long ticks = (3 * 24 + 5) * 120L; // three days and five hours
+        clockOnly.advance(duck, ticks);
+        assertEquals(3, duck.getDay());
+        assertEquals(13, duck.getHour());
+
+        Duck stepped = new Duck("Stepped");
+        StatEngine stepping = new StatEngine(Collections.singletonList(clock));
+        for (long i = 0; i < ticks; i++) {
+            stepping.tick(stepped);
+        }
+        assertEquals(3, stepped.getDay());
+        assertEquals(13, stepped.getHour());
+
+        Duck night = new Duck("Night");
+        night.setHour(23);
+        engine.advance(night, 6);
+        assertEquals(2, night.getTiredness());
+        Duck day = new Duck("Day");
+        StatEngine.withDefaultRules().advance(day, 6);
+        assertEquals(1, day.getTiredness());
+    }
+}
@@ -0,0 +1,217 @@
+package Application.Simulation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import Application.Duck;
+
+/**
+ * One periodic stat change applied by the {@link StatEngine}.
+ * <p>
+ * A rule fires every {@code period} ticks, where the period may differ by duck colour. When it
+ * fires, the first of its outcomes whose condition holds is applied; a rule whose outcomes all
+ * fail does nothing on that tick. Rules are immutable once built.
+ * </p>
+ */
+public final class StatRule {
+
+    private final String name;
+    private final int defaultPeriod;
+    private final Map<String, Integer> colourPeriods;
+    private final List<Outcome> outcomes;
+    // The outcomes as an array, for the per-tick search in select.
+    private final Outcome[] outcomeArray;
+
+    private StatRule(Builder builder) {
+        this.name = builder.name;
+        this.defaultPeriod = builder.defaultPeriod;
+        this.colourPeriods = Collections.unmodifiableMap(new HashMap<>(builder.colourPeriods));
+        this.outcomes = Collections.unmodifiableList(new ArrayList<>(builder.outcomes));
+        this.outcomeArray = this.outcomes.toArray(new Outcome[0]);
+    }
+
+    /**
+     * Starts building a rule.
+     *
+     * @param name          the rule name, used in reports and logs
+     * @param defaultPeriod the number of ticks between firings for colours without an override
+     * @return a builder for the rule
+     */
+    public static Builder builder(String name, int defaultPeriod) {
+        return new Builder(name, defaultPeriod);
+    }
+
+    /**
+     * Retrieves the rule name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of ticks between firings for a duck colour.
+     *
+     * @param colour the duck colour
+     * @return the period in ticks
+     */
+    public int periodFor(String colour) {
+        Integer period = colourPeriods.get(colour);
+        return period != null ? period : defaultPeriod;
+    }
+
+    /**
+     * Retrieves the rule's outcomes in priority order.
+     *
+     * @return an unmodifiable list of outcomes
+     */
+    public List<Outcome> getOutcomes() {
+        return outcomes;
+    }
+
+    /**
+     * Applies the first outcome whose condition holds for the duck.
+     *
+     * @param duck the duck to change
+     * @return the outcome applied, or null if none matched
+     */
+    public Outcome fire(Duck duck) {
+        Outcome outcome = select(duck);
+        if (outcome != null) {
+            outcome.stat.change(duck, outcome.delta);
+        }
+        return outcome;
+    }
+
+    /**
+     * Finds the outcome that would be applied if the rule fired now.
+     *
+     * @param duck the duck to test
+     * @return the first outcome whose condition holds, or null if none matched
+     */
+    Outcome select(Duck duck) {
+        for (Outcome outcome : outcomeArray) {
+            if (outcome.condition.test(duck)) {
+                return outcome;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A conditional change to one statistic.
+     */
+    public static final class Outcome {
+        private final Predicate<Duck> condition;
+        private final Stat stat;
+        private final int delta;
+
+        private Outcome(Predicate<Duck> condition, Stat stat, int delta) {
+            this.condition = condition;
+            this.stat = stat;
+            this.delta = delta;
+        }
+
+        /**
+         * Retrieves the condition that must hold for the outcome to apply.
+         *
+         * @return the condition
+         */
+        public Predicate<Duck> getCondition() {
+            return condition;
+        }
+
+        /**
+         * Retrieves the statistic the outcome changes.
+         *
+         * @return the statistic
+         */
+        public Stat getStat() {
+            return stat;
+        }
+
+        /**
+         * Retrieves the amount added to the statistic.
+         *
+         * @return the delta
+         */
+        public int getDelta() {
+            return delta;
+        }
+    }
+
+    /**
+     * Builds a {@link StatRule}.
+     */
+    public static final class Builder {
+        private final String name;
+        private final int defaultPeriod;
+        private final Map<String, Integer> colourPeriods = new HashMap<>();
+        private final List<Outcome> outcomes = new ArrayList<>();
+
+        private Builder(String name, int defaultPeriod) {
+            if (defaultPeriod <= 0) {
+                throw new IllegalArgumentException("Rule " + name + " needs a positive period");
+            }
+            this.name = name;
+            this.defaultPeriod = defaultPeriod;
+        }
+
+        /**
+         * Overrides the period for one duck colour.
+         *
+         * @param colour the duck colour
+         * @param period the period in ticks for that colour
+         * @return this builder
+         */
+        public Builder period(String colour, int period) {
+            if (period <= 0) {
+                throw new IllegalArgumentException("Rule " + name + " needs a positive period for " + colour);
+            }
+            colourPeriods.put(colour, period);
+            return this;
+        }
+
+        /**
+         * Adds an outcome applied when its condition holds and no earlier outcome matched.
+         * <p>
+         * Prefer a {@link StatCondition}: rules whose conditions are all stat conditions let
+         * the engine skip ahead in bulk instead of stepping every tick.
+         * </p>
+         *
+         * @param condition the condition
+         * @param stat      the statistic to change
+         * @param delta     the amount to add
+         * @return this builder
+         */
+        public Builder when(Predicate<Duck> condition, Stat stat, int delta) {
+            outcomes.add(new Outcome(condition, stat, delta));
+            return this;
+        }
+
+        /**
+         * Adds an outcome applied whenever no earlier outcome matched.
+         *
+         * @param stat  the statistic to change
+         * @param delta the amount to add
+         * @return this builder
+         */
+        public Builder always(Stat stat, int delta) {
+            return when(StatCondition.ALWAYS, stat, delta);
+        }
+
+        /**
+         * Creates the rule.
+         *
+         * @return the immutable rule
+         */
+        public StatRule build() {
+            return new StatRule(this);
+        }
+    }
+}
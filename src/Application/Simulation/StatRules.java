@@ -0,0 +1,189 @@
+package Application.Simulation;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Loads the stat rules the game runs from the rules file.
+ * <p>
+ * The rules file ("statRules.json", next to "settings.json") describes every decay and scoring
+ * rule, so the game can be retuned without recompiling. Each rule is compiled once into a
+ * {@link StatRule} of {@link StatCondition}s; ticking afterwards costs the same as rules written
+ * in code. If the file is missing the built-in {@link StatEngine#defaultRules()} are used.
+ * </p>
+ */
+public final class StatRules {
+
+    /** Rules file used by the game, relative to the working directory. */
+    public static final String DEFAULT_FILE = "statRules.json";
+
+    private static volatile List<StatRule> shared;
+
+    private StatRules() {
+    }
+
+    /**
+     * Retrieves the game's rules, loading the rules file on first use.
+     *
+     * @return a new list of the game's rules in firing order
+     */
+    public static List<StatRule> get() {
+        List<StatRule> rules = shared;
+        if (rules == null) {
+            synchronized (StatRules.class) {
+                rules = shared;
+                if (rules == null) {
+                    rules = Collections.unmodifiableList(loadOrDefault(new File(DEFAULT_FILE)));
+                    shared = rules;
+                }
+            }
+        }
+        return new ArrayList<>(rules);
+    }
+
+    /**
+     * Reads rules from a file, falling back to the built-in rules if it cannot be used.
+     * <p>
+     * A missing file is expected and silent; a file that exists but cannot be read or parsed
+     * is reported on the error stream so a bad edit is not mistaken for the intended tuning.
+     * </p>
+     *
+     * @param file the rules file
+     * @return the rules in firing order
+     */
+    public static List<StatRule> loadOrDefault(File file) {
+        if (!file.exists()) {
+            return StatEngine.defaultRules();
+        }
+        try {
+            return load(file);
+        } catch (IOException | IllegalArgumentException e) {
+            e.printStackTrace();
+            return StatEngine.defaultRules();
+        }
+    }
+
+    /**
+     * Reads rules from a file.
+     * <p>
+     * The file holds a "rules" array. Each rule has a "name", an "every" period in seconds, an
+     * optional "colours" object of per-colour periods in seconds, and an "outcomes" array tried
+     * in order. Each outcome has a "when" condition, the "stat" it changes and a "delta". A
+     * condition is "always" or comparisons such as {@code hunger <= 5} joined with {@code &&}
+     * and {@code ||}, where {@code &&} binds tighter.
+     * </p>
+     *
+     * @param file the rules file
+     * @return the rules in firing order
+     * @throws IOException              if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a valid rules file
+     */
+    public static List<StatRule> load(File file) throws IOException {
+        return parse(new String(Files.readAllBytes(file.toPath())));
+    }
+
+    /**
+     * Compiles rules from the text of a rules file.
+     *
+     * @param text the JSON rules
+     * @return the rules in firing order
+     * @throws IllegalArgumentException if the text is not a valid rules file
+     */
+    public static List<StatRule> parse(String text) {
+        List<StatRule> rules = new ArrayList<>();
+        try {
+            JSONArray rulesJson = new JSONObject(text).getJSONArray("rules");
+            for (int i = 0; i < rulesJson.length(); i++) {
+                JSONObject ruleJson = rulesJson.getJSONObject(i);
+                String name = ruleJson.getString("name");
+                StatRule.Builder builder = StatRule.builder(name, toTicks(name, ruleJson.getDouble("every")));
+
+                JSONObject colours = ruleJson.optJSONObject("colours");
+                if (colours != null) {
+                    for (String colour : colours.keySet()) {
+                        builder.period(colour, toTicks(name, colours.getDouble(colour)));
+                    }
+                }
+
+                JSONArray outcomes = ruleJson.getJSONArray("outcomes");
+                for (int o = 0; o < outcomes.length(); o++) {
+                    JSONObject outcome = outcomes.getJSONObject(o);
+                    builder.when(parseCondition(outcome.getString("when")),
+                            parseStat(outcome.getString("stat")),
+                            outcome.getInt("delta"));
+                }
+                rules.add(builder.build());
+            }
+        } catch (JSONException e) {
+            throw new IllegalArgumentException("Invalid stat rules: " + e.getMessage(), e);
+        }
+        return rules;
+    }
+
+    /**
+     * Compiles a condition such as {@code hunger > 4 && health > 6 || happiness == 100}.
+     *
+     * @param text the condition, or "always"
+     * @return the compiled condition
+     * @throws IllegalArgumentException if the condition cannot be parsed
+     */
+    public static StatCondition parseCondition(String text) {
+        String trimmed = text.trim();
+        if (trimmed.equalsIgnoreCase("always")) {
+            return StatCondition.ALWAYS;
+        }
+        StatCondition condition = null;
+        for (String clauseText : trimmed.split("\\|\\|")) {
+            StatCondition clause = null;
+            for (String comparisonText : clauseText.split("&&")) {
+                StatCondition comparison = parseComparison(comparisonText.trim(), text);
+                clause = clause == null ? comparison : clause.and(comparison);
+            }
+            condition = condition == null ? clause : condition.or(clause);
+        }
+        return condition;
+    }
+
+    // Parses one "stat operator value" comparison.
+    private static StatCondition parseComparison(String text, String condition) {
+        String[] parts = text.split("\\s+");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Expected 'stat operator value' in condition: " + condition);
+        }
+        int value;
+        try {
+            value = Integer.parseInt(parts[2]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Expected a whole number in condition: " + condition, e);
+        }
+        return StatCondition.compare(parseStat(parts[0]), parts[1], value);
+    }
+
+    // Looks up a statistic by its lower-case name.
+    private static Stat parseStat(String name) {
+        try {
+            return Stat.valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown stat: " + name, e);
+        }
+    }
+
+    // Converts a period in seconds to whole engine ticks.
+    private static int toTicks(String rule, double seconds) {
+        double ticks = seconds * 1000 / StatEngine.TICK_MILLIS;
+        long whole = Math.round(ticks);
+        if (Math.abs(ticks - whole) > 1e-9) {
+            throw new IllegalArgumentException("Rule " + rule + " period " + seconds
+                    + " s is not a multiple of " + StatEngine.TICK_MILLIS + " ms");
+        }
+        return (int) whole;
+    }
+}
@@ -0,0 +1,90 @@
+package Application.Simulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Test;
+
+import Application.Duck;
+
+/**
+ * Unit Test suite for the {@link StatRules} class.
+ * <p>
+ * This class verifies that the shipped rules file reproduces the built-in rules exactly and that
+ * a malformed rules file is rejected with a clear message instead of silently changing the game.
+ * </p>
+ * <p>
+ * <b>Testing Approach:</b> Black-box comparison of ducks simulated under the loaded rules and
+ * under {@link StatEngine#defaultRules()}. The tests run without the JavaFX toolkit.
+ * </p>
+ *
+ * <b>Test Category:</b> Unit Testing (Game Logic Simulation)<br>
+ * <b>Automation:</b> Automated using JUnit<br>
+ * <b>Requirement:</b> Designers can retune stat rules in a file without changing how the game plays by default.<br>
+ */
+public class StatRulesTest {
+
+    /**
+     * Test Case Name: Shipped File Matches Defaults
+     * <p><b>Test Case Description:</b> Every colour plays identically under "statRules.json" and the built-in rules.</p>
+     */
+    @Test
+    public void testShippedFileMatchesDefaults() throws IOException {
+        List<StatRule> loaded = StatRules.load(new File(StatRules.DEFAULT_FILE));
+        assertEquals(StatEngine.defaultRules().size(), loaded.size());
+
+        for (String colour : new String[] { "white", "pink", "blue" }) {
+            Duck fromFile = new Duck("File");
+            Duck builtIn = new Duck("Built-in");
+            fromFile.setColour(colour);
+            builtIn.setColour(colour);
+            StatEngine fileEngine = new StatEngine(loaded);
+            StatEngine defaultEngine = StatEngine.withDefaultRules();
+
+            for (int tick = 0; tick < 2000; tick++) {
+                if (tick == 700) {
+                    // Feed and rest both ducks so the scoring outcomes are exercised too.
+                    for (Duck duck : new Duck[] { fromFile, builtIn }) {
+                        duck.setHunger(10);
+                        duck.setTiredness(0);
+                        duck.setHappiness(100);
+                    }
+                }
+                fileEngine.tick(fromFile);
+                defaultEngine.tick(builtIn);
+                for (Stat stat : Stat.values()) {
+                    assertEquals(colour + " " + stat + " at tick " + tick, stat.get(builtIn), stat.get(fromFile));
+                }
+            }
+        }
+    }
+
+    /**
+     * Test Case Name: Invalid Rules Rejected
+     * <p><b>Test Case Description:</b> Unknown stats, bad operators and off-tick periods are reported.</p>
+     */
+    @Test
+    public void testInvalidRulesRejected() {
+        String[] invalid = {
+            "{\"rules\": [{\"name\": \"r\", \"every\": 1, \"outcomes\": [{\"when\": \"mood < 5\", \"stat\": \"health\", \"delta\": -1}]}]}",
+            "{\"rules\": [{\"name\": \"r\", \"every\": 1, \"outcomes\": [{\"when\": \"hunger =< 5\", \"stat\": \"health\", \"delta\": -1}]}]}",
+            "{\"rules\": [{\"name\": \"r\", \"every\": 1.2, \"outcomes\": [{\"when\": \"always\", \"stat\": \"health\", \"delta\": -1}]}]}",
+            "{\"rules\": [{\"name\": \"r\", \"outcomes\": []}]}",
+        };
+        for (String text : invalid) {
+            try {
+                StatRules.parse(text);
+                fail("Accepted invalid rules: " + text);
+            } catch (IllegalArgumentException expected) {
+                assertTrue(expected.getMessage() != null);
+            }
+        }
+        assertEquals("hunger <= 5 || tiredness > 85 && health == 10",
+                StatRules.parseCondition("hunger <= 5 || tiredness > 85 && health == 10").toString());
+    }
+}
@@ -0,0 +1,80 @@
+package Application.Simulation;
+
+import Application.Duck;
+
+/**
+ * Something that happens to a duck at a random moment rather than on a fixed period.
+ * <p>
+ * Each event recurs at intervals drawn uniformly between its minimum and maximum gap, and
+ * changes the duck only through its setters, so the usual clamps and death check apply.
+ * </p>
+ */
+public enum WorldEvent {
+
+    /** The duck falls ill: -2 health and -10 happiness. */
+    SICKNESS(8 * 60_000L, 16 * 60_000L) {
+        @Override
+        boolean apply(Duck duck, boolean outdoors) {
+            duck.setHealth(-2);
+            duck.setHappiness(-10);
+            return true;
+        }
+    },
+
+    /** A rainy spell: +15 tiredness, but only for a duck out in the Park. */
+    RAINY_DAY(4 * 60_000L, 8 * 60_000L) {
+        @Override
+        boolean apply(Duck duck, boolean outdoors) {
+            if (!outdoors) {
+                return false;
+            }
+            duck.setTiredness(15);
+            return true;
+        }
+    },
+
+    /** A surprise gift: +5 coins and +10 happiness. */
+    SURPRISE_GIFT(3 * 60_000L, 6 * 60_000L) {
+        @Override
+        boolean apply(Duck duck, boolean outdoors) {
+            duck.setCoins(5);
+            duck.setHappiness(10);
+            return true;
+        }
+    };
+
+    private final long minGapMillis;
+    private final long maxGapMillis;
+
+    WorldEvent(long minGapMillis, long maxGapMillis) {
+        this.minGapMillis = minGapMillis;
+        this.maxGapMillis = maxGapMillis;
+    }
+
+    /**
+     * Returns the shortest time between two occurrences.
+     *
+     * @return the minimum gap in milliseconds of play
+     */
+    public long getMinGapMillis() {
+        return minGapMillis;
+    }
+
+    /**
+     * Returns the longest time between two occurrences.
+     *
+     * @return the maximum gap in milliseconds of play
+     */
+    public long getMaxGapMillis() {
+        return maxGapMillis;
+    }
+
+    /**
+     * Applies the event to a duck.
+     *
+     * @param duck     the duck
+     * @param outdoors true if the duck is in the Park
+     * @return true if the event changed the duck
+     */
+    abstract boolean apply(Duck duck, boolean outdoors);
+}
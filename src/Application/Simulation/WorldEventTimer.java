@@ -0,0 +1,112 @@
+package Application.Simulation;
+
+import java.util.function.BooleanSupplier;
+
+import Application.Clock.GameTimer;
+import Application.Clock.TimerRegistry;
+import Application.Duck;
+
+/**
+ * Runs a duck's {@link WorldEvents} on the game clock.
+ * <p>
+ * Only the next event has a timer, a one-shot that applies the event when it falls due and
+ * then arms the one after it, so nothing runs between events. The duck's event position is
+ * the play time the schedule has covered plus the time the pending timer has run, and is
+ * written back to the duck whenever an event fires, the timer pauses or
+ * {@link #recordPosition()} is called, so a save taken between two events resumes exactly
+ * where play stopped.
+ * </p>
+ */
+public final class WorldEventTimer {
+
+    private final TimerRegistry registry;
+    private final Object owner;
+    private final Duck duck;
+    private final BooleanSupplier outdoors;
+    private final Runnable onApplied;
+    private final WorldEvents events;
+    private GameTimer timer;
+
+    /**
+     * Resumes the duck's schedule from its saved seed and position and arms the next event.
+     * The timer starts paused.
+     *
+     * @param registry  the registry the timer is created in
+     * @param owner     the owner the timer is registered under
+     * @param duck      the duck the events happen to
+     * @param outdoors  tells whether the duck is in the Park when an event fires
+     * @param onApplied run after an event has changed the duck, to refresh what shows it
+     */
+    public WorldEventTimer(TimerRegistry registry, Object owner, Duck duck, BooleanSupplier outdoors,
+                           Runnable onApplied) {
+        this.registry = registry;
+        this.owner = owner;
+        this.duck = duck;
+        this.outdoors = outdoors;
+        this.onApplied = onApplied;
+        this.events = WorldEvents.resume(duck.getEventSeed(), duck.getEventMillis());
+        arm();
+    }
+
+    /**
+     * Retrieves the duck the events happen to.
+     *
+     * @return the duck
+     */
+    public Duck getDuck() {
+        return duck;
+    }
+
+    /**
+     * Starts or resumes the wait for the next event.
+     */
+    public void play() {
+        timer.play();
+    }
+
+    /**
+     * Pauses the wait for the next event and records the position on the duck.
+     */
+    public void pause() {
+        timer.pause();
+        recordPosition();
+    }
+
+    /**
+     * Stops and unregisters the pending timer.
+     */
+    public void release() {
+        registry.release(timer);
+    }
+
+    /**
+     * Returns the play time the schedule has covered, including the time since the last event.
+     *
+     * @return elapsed milliseconds of play
+     */
+    public long getPosition() {
+        return events.getElapsedMillis() + timer.getPeriodMillis() - timer.getRemainingMillis();
+    }
+
+    /**
+     * Stores the current position on the duck so it is saved with it.
+     */
+    public void recordPosition() {
+        duck.setEventMillis(getPosition());
+    }
+
+    // Creates the stopped one-shot timer for the next event.
+    private void arm() {
+        long delay = events.millisUntilNext();
+        timer = registry.after(owner, "world-event", delay, () -> {
+            boolean applied = !events.advance(delay, duck, outdoors.getAsBoolean()).isEmpty();
+            registry.release(timer);
+            arm();
+            recordPosition();
+            timer.play();
+            if (applied) {
+                onApplied.run();
+            }
+        });
+    }
+}
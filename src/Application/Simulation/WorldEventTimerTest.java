@@ -0,0 +1,104 @@
+package Application.Simulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import Application.Clock.GameClock;
+import Application.Clock.TimerRegistry;
+import Application.Duck;
+
+/**
+ * Unit Test suite for the {@link WorldEventTimer} class.
+ * <p>
+ * This class verifies that the event schedule's position stored on the duck keeps up with
+ * play time between events, so a game saved and loaded part-way through a gap carries on
+ * exactly as uninterrupted play would.
+ * </p>
+ * <p>
+ * <b>Testing Approach:</b> Black-box comparison of ducks driven by timers on manual clocks,
+ * which need no JavaFX toolkit.
+ * </p>
+ *
+ * <b>Test Category:</b> Unit Testing (Game Logic Simulation)<br>
+ * <b>Automation:</b> Automated using JUnit<br>
+ * <b>Requirement:</b> World events must replay deterministically from the seed and position stored in the save.<br>
+ */
+public class WorldEventTimerTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final Runnable NO_REFRESH = () -> { };
+
+    /**
+     * Test Case Name: Save Between Events
+     * <p><b>Test Case Description:</b> Pausing between two events records the exact play time on the
+     * duck, and a schedule resumed from it on a fresh clock ends in the same state as a run that
+     * never stopped.</p>
+     */
+    @Test
+    public void testSaveBetweenEvents() {
+        long total = 30 * MINUTE;
+        long saveAt = 13 * MINUTE + 1234;
+
+        Duck continuous = seededDuck();
+        GameClock clock = GameClock.manual();
+        WorldEventTimer uninterrupted = new WorldEventTimer(new TimerRegistry(clock), this, continuous, () -> true, NO_REFRESH);
+        uninterrupted.play();
+        clock.advance(total);
+        uninterrupted.recordPosition();
+
+        Duck saved = seededDuck();
+        GameClock before = GameClock.manual();
+        WorldEventTimer first = new WorldEventTimer(new TimerRegistry(before), this, saved, () -> true, NO_REFRESH);
+        first.play();
+        before.advance(saveAt);
+        first.pause();
+        assertEquals(saveAt, saved.getEventMillis());
+
+        // Loading rebuilds the schedule from the duck's seed and position alone, on a new clock.
+        GameClock after = GameClock.manual();
+        WorldEventTimer resumed = new WorldEventTimer(new TimerRegistry(after), this, saved, () -> true, NO_REFRESH);
+        resumed.play();
+        after.advance(total - saveAt);
+        resumed.recordPosition();
+
+        assertTrue(continuous.getCoins() > 0);
+        assertEquals(continuous.getCoins(), saved.getCoins());
+        assertEquals(continuous.getHealth(), saved.getHealth());
+        assertEquals(continuous.getHappiness(), saved.getHappiness());
+        assertEquals(continuous.getTiredness(), saved.getTiredness());
+        assertEquals(total, continuous.getEventMillis());
+        assertEquals(total, saved.getEventMillis());
+    }
+
+    /**
+     * Test Case Name: Refresh After Event
+     * <p><b>Test Case Description:</b> The refresh callback runs after events that change the duck, so
+     * the coin display follows surprise gifts, and not at all before the first event.</p>
+     */
+    @Test
+    public void testRefreshAfterEvent() {
+        Duck duck = seededDuck();
+        GameClock clock = GameClock.manual();
+        int[] refreshes = { 0 };
+        int[] shownCoins = { 0 };
+        WorldEventTimer timer = new WorldEventTimer(new TimerRegistry(clock), this, duck, () -> true, () -> {
+            refreshes[0]++;
+            shownCoins[0] = duck.getCoins();
+        });
+        timer.play();
+        clock.advance(WorldEvent.SURPRISE_GIFT.getMinGapMillis() - 1);
+        assertEquals(0, refreshes[0]);
+
+        clock.advance(30 * MINUTE);
+        assertTrue(refreshes[0] > 0);
+        assertEquals(duck.getCoins(), shownCoins[0]);
+    }
+
+    private static Duck seededDuck() {
+        Duck duck = new Duck("Seeded");
+        duck.setEventSeed(42);
+        return duck;
+    }
+}
@@ -0,0 +1,134 @@
+package Application.Simulation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+
+import Application.Duck;
+
+/**
+ * Seeded schedule of {@link WorldEvent}s over a duck's time in play.
+ * <p>
+ * Every kind of event keeps its next occurrence in a min-heap ordered by due time, so finding
+ * the next event is a peek and firing one costs {@code O(log k)} for {@code k} kinds; nothing
+ * is examined between events. The game arms a single one-shot timer for
+ * {@link #millisUntilNext()} instead of polling.
+ * </p>
+ * <p>
+ * Each kind draws its gaps from its own generator split from the seed, so the schedule depends
+ * only on the seed and the play time covered. A save therefore needs just those two numbers:
+ * {@link #resume(long, long)} replays the schedule up to the saved time without touching a
+ * duck, and every later event arrives exactly when it would have without the save.
+ * </p>
+ */
+public final class WorldEvents {
+
+    // Pending occurrences by due time; ties go to the event declared first.
+    private static final Comparator<Pending> DUE_ORDER =
+            Comparator.<Pending>comparingLong(p -> p.due).thenComparingInt(p -> p.event.ordinal());
+
+    private final long seed;
+    private final PriorityQueue<Pending> queue = new PriorityQueue<>(DUE_ORDER);
+    private long elapsedMillis = 0;
+
+    /**
+     * Creates a schedule at the start of play.
+     *
+     * @param seed the seed all occurrences are drawn from
+     */
+    public WorldEvents(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        for (WorldEvent event : WorldEvent.values()) {
+            Pending pending = new Pending(event, root.split());
+            pending.due = pending.nextGap();
+            queue.add(pending);
+        }
+    }
+
+    /**
+     * Recreates a saved schedule.
+     *
+     * @param seed          the saved seed
+     * @param elapsedMillis the saved play time already covered
+     * @return a schedule in the same state as when it was saved
+     */
+    public static WorldEvents resume(long seed, long elapsedMillis) {
+        WorldEvents events = new WorldEvents(seed);
+        events.advance(elapsedMillis, null, false);
+        return events;
+    }
+
+    /**
+     * Retrieves the seed the schedule was created with.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the play time the schedule has covered.
+     *
+     * @return elapsed milliseconds of play
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Returns how long until the next event falls due.
+     *
+     * @return milliseconds of play, at least 1
+     */
+    public long millisUntilNext() {
+        return Math.max(1, queue.peek().due - elapsedMillis);
+    }
+
+    /**
+     * Moves the schedule forward, applying every event that falls due in time order.
+     * <p>
+     * A dead duck, or a null duck when replaying a save, is not changed, but the schedule still
+     * moves on so later events keep their times.
+     * </p>
+     *
+     * @param millis   the play time to advance
+     * @param duck     the duck events apply to, or null to only move the schedule
+     * @param outdoors true if the duck is in the Park
+     * @return the events that changed the duck, in the order they were applied
+     */
+    public List<WorldEvent> advance(long millis, Duck duck, boolean outdoors) {
+        List<WorldEvent> applied = new ArrayList<>();
+        long target = elapsedMillis + Math.max(0, millis);
+        while (queue.peek().due <= target) {
+            Pending next = queue.poll();
+            elapsedMillis = next.due;
+            if (duck != null && !duck.isDead() && next.event.apply(duck, outdoors)) {
+                applied.add(next.event);
+            }
+            next.due += next.nextGap();
+            queue.add(next);
+        }
+        elapsedMillis = target;
+        return applied;
+    }
+
+    // The next occurrence of one kind of event.
+    private static final class Pending {
+        private final WorldEvent event;
+        private final SplittableRandom random;
+        private long due;
+
+        private Pending(WorldEvent event, SplittableRandom random) {
+            this.event = event;
+            this.random = random;
+        }
+
+        private long nextGap() {
+            return random.nextLong(event.getMinGapMillis(), event.getMaxGapMillis() + 1);
+        }
+    }
+}
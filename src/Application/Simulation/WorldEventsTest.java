@@ -0,0 +1,95 @@
+package Application.Simulation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import Application.Duck;
+
+/**
+ * Unit Test suite for the {@link WorldEvents} class.
+ * <p>
+ * This class verifies that random world events follow from the seed alone, that a schedule
+ * resumed from a save continues exactly as if play had never stopped, and that events change
+ * the duck only where they should.
+ * </p>
+ * <p>
+ * <b>Testing Approach:</b> Black-box comparison of event logs and duck stats from seeded
+ * schedules. The tests run without the JavaFX toolkit.
+ * </p>
+ *
+ * <b>Test Category:</b> Unit Testing (Game Logic Simulation)<br>
+ * <b>Automation:</b> Automated using JUnit<br>
+ * <b>Requirement:</b> World events must replay deterministically from the seed stored in the save.<br>
+ */
+public class WorldEventsTest {
+
+    private static final long HOUR = 60 * 60 * 1000L;
+
+    /**
+     * Test Case Name: Resume Matches Continuous Play
+     * <p><b>Test Case Description:</b> Saving and resuming part-way gives the same events at the same
+     * times as an uninterrupted schedule, stepping from event to event as the game does.</p>
+     */
+    @Test
+    public void testResumeMatchesContinuousPlay() {
+        List<String> continuous = eventLog(new WorldEvents(42), 3 * HOUR);
+
+        WorldEvents first = new WorldEvents(42);
+        List<String> resumed = eventLog(first, HOUR);
+        WorldEvents second = WorldEvents.resume(first.getSeed(), first.getElapsedMillis());
+        resumed.addAll(eventLog(second, 2 * HOUR));
+
+        assertEquals(continuous, resumed);
+        assertTrue(continuous.size() > 20);
+        assertNotEquals(continuous, eventLog(new WorldEvents(43), 3 * HOUR));
+    }
+
+    /**
+     * Test Case Name: Events Apply Through Setters
+     * <p><b>Test Case Description:</b> Rain only tires a duck in the Park, gifts add coins, and a dead
+     * duck is left untouched while the schedule moves on.</p>
+     */
+    @Test
+    public void testEventsApplyThroughSetters() {
+        Duck indoors = new Duck("Indoors");
+        Duck outdoors = new Duck("Outdoors");
+        new WorldEvents(7).advance(HOUR, indoors, false);
+        List<WorldEvent> applied = new WorldEvents(7).advance(HOUR, outdoors, true);
+
+        assertEquals(0, indoors.getTiredness());
+        assertTrue(outdoors.getTiredness() > 0);
+        assertTrue(applied.contains(WorldEvent.RAINY_DAY));
+        assertEquals(indoors.getCoins(), outdoors.getCoins());
+        assertTrue(outdoors.getCoins() >= 5 * (HOUR / WorldEvent.SURPRISE_GIFT.getMaxGapMillis()));
+
+        Duck dead = new Duck("Dead");
+        dead.setDead(true);
+        WorldEvents events = new WorldEvents(7);
+        assertTrue(events.advance(HOUR, dead, true).isEmpty());
+        assertEquals(0, dead.getCoins());
+        assertEquals(HOUR, events.getElapsedMillis());
+        assertFalse(events.millisUntilNext() <= 0);
+    }
+
+    // Steps from one event to the next, as the game's one-shot timer does, logging each event.
+    private static List<String> eventLog(WorldEvents events, long millis) {
+        List<String> log = new ArrayList<>();
+        Duck duck = new Duck("Logger");
+        long end = events.getElapsedMillis() + millis;
+        while (events.getElapsedMillis() < end) {
+            long step = Math.min(events.millisUntilNext(), end - events.getElapsedMillis());
+            duck.setHealth(10);
+            for (WorldEvent event : events.advance(step, duck, true)) {
+                log.add(event + "@" + events.getElapsedMillis());
+            }
+        }
+        return log;
+    }
+}
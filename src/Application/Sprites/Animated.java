@@ -0,0 +1,20 @@
+package Application.Sprites;
+
+/**
+ * Something advanced by the shared {@link SpriteAnimator} clock on every pulse.
+ */
+interface Animated {
+
+    /**
+     * Advances to the given pulse time.
+     *
+     * @param now the pulse timestamp in nanoseconds
+     * @return true if the animation has completed and should be removed from the clock
+     */
+    boolean update(long now);
+
+    /**
+     * Called once after {@link #update(long)} reported completion.
+     */
+    void finish();
+}
@@ -0,0 +1,128 @@
+package Application.Sprites;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.WeakInvalidationListener;
+import javafx.scene.Scene;
+import javafx.scene.layout.Region;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+
+/**
+ * Plays an animated GIF as a region's background on the shared {@link SpriteAnimator} clock.
+ * <p>
+ * Frames come from a shared {@link GifFrames} ring, so the GIF is decoded once however many
+ * times the screen is rebuilt. The background only advances while the region is attached
+ * to a showing, non-minimised window; while hidden it holds its place and costs nothing.
+ * </p>
+ */
+public final class AnimatedBackground implements Animated {
+
+    private final Region region;
+    private final GifFrames frames;
+    private final InvalidationListener visibilityListener = this::onVisibilityChanged;
+    private final WeakInvalidationListener weakVisibilityListener = new WeakInvalidationListener(visibilityListener);
+
+    private long startNanos;
+    // Loop position kept while paused, so playback resumes where it stopped.
+    private long pausedElapsed = 0;
+    private int shownFrame = -1;
+    private boolean playing = false;
+    private Window watchedWindow;
+
+    private AnimatedBackground(Region region, GifFrames frames) {
+        this.region = region;
+        this.frames = frames;
+    }
+
+    /**
+     * Gives a region an animated GIF background.
+     * <p>
+     * The first frame is shown straight away. Playback starts and stops on its own as the
+     * region is attached to or detached from a window, and as that window is minimised or restored.
+     * </p>
+     *
+     * @param region the region to decorate
+     * @param path   the GIF path or URL
+     * @return the animated background, mostly useful for tests and diagnostics
+     */
+    public static AnimatedBackground bind(Region region, String path) {
+        AnimatedBackground background = new AnimatedBackground(region, GifFrames.forPath(path));
+        background.showFrame(0);
+        // The region owns the background; windows only reference it weakly.
+        region.getProperties().put(AnimatedBackground.class, background);
+        region.sceneProperty().addListener(background.visibilityListener);
+        background.onVisibilityChanged(null);
+        return background;
+    }
+
+    /**
+     * Checks whether the background is currently advancing.
+     *
+     * @return true while registered with the animator
+     */
+    public boolean isPlaying() {
+        return playing;
+    }
+
+    @Override
+    public boolean update(long now) {
+        showFrame(frames.frameAt(now - startNanos));
+        return false;
+    }
+
+    @Override
+    public void finish() {
+        playing = false;
+    }
+
+    // Re-evaluates whether the region can be seen and starts or stops playback to match.
+    private void onVisibilityChanged(Observable observable) {
+        Scene scene = region.getScene();
+        Window window = scene != null ? scene.getWindow() : null;
+        watchWindow(scene, window);
+
+        boolean visible = window != null && window.isShowing()
+                && !(window instanceof Stage && ((Stage) window).isIconified());
+        if (visible && !playing) {
+            startNanos = System.nanoTime() - pausedElapsed;
+            playing = true;
+            SpriteAnimator.get().register(this);
+        } else if (!visible && playing) {
+            pausedElapsed = System.nanoTime() - startNanos;
+            playing = false;
+            SpriteAnimator.get().unregister(this);
+        }
+    }
+
+    // Follows the scene's window and its showing and minimised state.
+    private void watchWindow(Scene scene, Window window) {
+        if (scene != null) {
+            scene.windowProperty().removeListener(weakVisibilityListener);
+            scene.windowProperty().addListener(weakVisibilityListener);
+        }
+        if (window == watchedWindow) {
+            return;
+        }
+        if (watchedWindow != null) {
+            watchedWindow.showingProperty().removeListener(weakVisibilityListener);
+            if (watchedWindow instanceof Stage) {
+                ((Stage) watchedWindow).iconifiedProperty().removeListener(weakVisibilityListener);
+            }
+        }
+        watchedWindow = window;
+        if (window != null) {
+            window.showingProperty().addListener(weakVisibilityListener);
+            if (window instanceof Stage) {
+                ((Stage) window).iconifiedProperty().addListener(weakVisibilityListener);
+            }
+        }
+    }
+
+    private void showFrame(int frame) {
+        if (frame != shownFrame) {
+            region.setBackground(frames.getBackground(frame));
+            shownFrame = frame;
+        }
+    }
+}
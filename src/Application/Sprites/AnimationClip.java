@@ -0,0 +1,131 @@
+package Application.Sprites;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javafx.scene.image.ImageView;
+import javafx.util.Duration;
+
+/**
+ * An immutable, shared description of one sprite animation.
+ * <p>
+ * A clip names its frames, playback rate and loop mode, and optionally the clip to play once
+ * it finishes. Clips are defined in the animation descriptor and loaded once by
+ * {@link AnimationRegistry}; ducks refer to them by id. The atlas frames for each colour are
+ * resolved on first use and shared by every duck of that colour.
+ * </p>
+ */
+public final class AnimationClip {
+
+    private final String id;
+    private final String[] framePaths;
+    private final Duration frameDuration;
+    private final int cycleCount;
+    private final Duration loopPause;
+    private final String next;
+
+    // Atlas frames per duck colour, resolved on first use.
+    private final Map<String, SpriteFrames> framesByColour = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a clip.
+     *
+     * @param id            the clip id (e.g. "idle")
+     * @param framePaths    the base tile URLs in playback order
+     * @param frameDuration how long each frame stays on screen
+     * @param cycleCount    the number of passes, or {@link SpriteAnimation#INDEFINITE}
+     * @param loopPause     the pause on the last frame between passes
+     * @param next          the id of the clip to play when this one finishes, or null
+     */
+    AnimationClip(String id, String[] framePaths, Duration frameDuration, int cycleCount, Duration loopPause, String next) {
+        this.id = id;
+        this.framePaths = framePaths.clone();
+        this.frameDuration = frameDuration;
+        this.cycleCount = cycleCount;
+        this.loopPause = loopPause;
+        this.next = next;
+    }
+
+    /**
+     * Retrieves the clip id.
+     *
+     * @return the id
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Returns the number of frames in one pass.
+     *
+     * @return the frame count
+     */
+    public int getFrameCount() {
+        return framePaths.length;
+    }
+
+    /**
+     * Retrieves how long each frame stays on screen.
+     *
+     * @return the frame duration
+     */
+    public Duration getFrameDuration() {
+        return frameDuration;
+    }
+
+    /**
+     * Retrieves the number of passes played before the clip finishes.
+     *
+     * @return the cycle count, or {@link SpriteAnimation#INDEFINITE}
+     */
+    public int getCycleCount() {
+        return cycleCount;
+    }
+
+    /**
+     * Retrieves the pause held on the last frame between passes.
+     *
+     * @return the loop pause
+     */
+    public Duration getLoopPause() {
+        return loopPause;
+    }
+
+    /**
+     * Retrieves the clip to play once this one finishes.
+     *
+     * @return the next clip id, or null if the last frame should stay on screen
+     */
+    public String getNext() {
+        return next;
+    }
+
+    /**
+     * Returns this clip's frames recoloured for a duck colour.
+     *
+     * @param colour the duck colour
+     * @return the shared atlas frames for the colour
+     */
+    public SpriteFrames frames(String colour) {
+        String key = colour == null ? "white" : colour;
+        return framesByColour.computeIfAbsent(key, c -> SpriteAtlas.frames(framePaths, c));
+    }
+
+    /**
+     * Creates an animation that plays this clip's frames on a view.
+     * <p>
+     * The animation is configured with the clip's rate, cycle count and loop pause but is not
+     * started and has no on-finished callback; following {@link #getNext()} is up to the caller.
+     * </p>
+     *
+     * @param view   the ImageView to draw into
+     * @param frames the frames to play, normally from {@link #frames(String)}
+     * @return the configured animation
+     */
+    public SpriteAnimation createAnimation(ImageView view, SpriteFrames frames) {
+        SpriteAnimation animation = new SpriteAnimation(view, frames, frameDuration);
+        animation.setCycleCount(cycleCount);
+        animation.setLoopPause(loopPause);
+        return animation;
+    }
+}
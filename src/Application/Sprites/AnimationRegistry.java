@@ -0,0 +1,125 @@
+package Application.Sprites;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import javafx.util.Duration;
+
+/**
+ * The shared, read-only set of {@link AnimationClip}s loaded from the animation descriptor.
+ * <p>
+ * The descriptor ("src/assets/duckAnimations.json") lists every clip with its frames, frame
+ * rate and loop mode, so animations can be added or retimed without recompiling. It is read
+ * once, the first time a clip is requested.
+ * </p>
+ */
+public final class AnimationRegistry {
+
+    // Descriptor used by the game, relative to the working directory.
+    private static final String DEFAULT_DESCRIPTOR = "src/assets/duckAnimations.json";
+
+    private static volatile AnimationRegistry shared;
+
+    private final Map<String, AnimationClip> clips;
+
+    private AnimationRegistry(Map<String, AnimationClip> clips) {
+        this.clips = Collections.unmodifiableMap(clips);
+    }
+
+    /**
+     * Retrieves the game's registry, loading the descriptor on first use.
+     *
+     * @return the shared registry
+     * @throws IllegalStateException if the descriptor cannot be read
+     */
+    public static AnimationRegistry get() {
+        AnimationRegistry registry = shared;
+        if (registry == null) {
+            synchronized (AnimationRegistry.class) {
+                registry = shared;
+                if (registry == null) {
+                    try {
+                        registry = load(new File(DEFAULT_DESCRIPTOR));
+                    } catch (IOException e) {
+                        throw new IllegalStateException("Could not read animation descriptor " + DEFAULT_DESCRIPTOR, e);
+                    }
+                    shared = registry;
+                }
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * Reads a registry from a descriptor file.
+     * <p>
+     * The descriptor holds a "folder" of base tiles and a "clips" array. Each clip has an "id",
+     * its "frames" (tile names within the folder), an "fps", a "loop" that is either a number
+     * of passes or "indefinite", and optionally "loopPauseMillis" and the "next" clip id.
+     * </p>
+     *
+     * @param descriptor the JSON descriptor
+     * @return the loaded registry
+     * @throws IOException if the file cannot be read
+     */
+    public static AnimationRegistry load(File descriptor) throws IOException {
+        JSONObject json = new JSONObject(new String(Files.readAllBytes(descriptor.toPath())));
+        String folder = "file:" + json.getString("folder") + "/";
+
+        Map<String, AnimationClip> clips = new HashMap<>();
+        JSONArray clipsJson = json.getJSONArray("clips");
+        for (int i = 0; i < clipsJson.length(); i++) {
+            JSONObject clipJson = clipsJson.getJSONObject(i);
+            JSONArray framesJson = clipJson.getJSONArray("frames");
+            String[] framePaths = new String[framesJson.length()];
+            for (int f = 0; f < framePaths.length; f++) {
+                framePaths[f] = folder + framesJson.getString(f);
+            }
+
+            Object loop = clipJson.opt("loop");
+            int cycleCount = loop instanceof Number ? ((Number) loop).intValue() : SpriteAnimation.INDEFINITE;
+            double fps = clipJson.optDouble("fps", 5);
+            String next = clipJson.has("next") ? clipJson.getString("next") : null;
+
+            String id = clipJson.getString("id");
+            clips.put(id, new AnimationClip(id, framePaths,
+                    Duration.millis(1000.0 / fps),
+                    cycleCount,
+                    Duration.millis(clipJson.optDouble("loopPauseMillis", 0)),
+                    next));
+        }
+        return new AnimationRegistry(clips);
+    }
+
+    /**
+     * Retrieves a clip by id.
+     *
+     * @param id the clip id
+     * @return the clip
+     * @throws IllegalArgumentException if no clip has that id
+     */
+    public AnimationClip clip(String id) {
+        AnimationClip clip = clips.get(id);
+        if (clip == null) {
+            throw new IllegalArgumentException("No animation clip named " + id);
+        }
+        return clip;
+    }
+
+    /**
+     * Checks whether a clip is defined.
+     *
+     * @param id the clip id
+     * @return true if the registry holds a clip with that id
+     */
+    public boolean contains(String id) {
+        return clips.containsKey(id);
+    }
+}
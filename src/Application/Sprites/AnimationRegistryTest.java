@@ -0,0 +1,70 @@
+package Application.Sprites;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Unit Test suite for the {@link AnimationRegistry} class.
+ * <p>
+ * This class verifies that the game's animation descriptor loads into clips with the frame
+ * counts, rates, loop modes and follow-on clips the duck animations rely on.
+ * </p>
+ * <p>
+ * <b>Testing Approach:</b> Black-box testing of the loaded registry against the shipped descriptor.
+ * </p>
+ *
+ * <b>Test Category:</b> Unit Testing (Animation Data)<br>
+ * <b>Automation:</b> Automated using JUnit<br>
+ * <b>Requirement:</b> Every duck animation must be defined once in the descriptor and loadable without JavaFX running.<br>
+ */
+public class AnimationRegistryTest {
+
+    /**
+     * Test Case Name: Duck Clips Defined
+     * <p><b>Test Case Description:</b> Confirms every clip used by DuckView and the menus is present.</p>
+     */
+    @Test
+    public void testDuckClipsDefined() {
+        AnimationRegistry registry = AnimationRegistry.get();
+        for (String id : new String[] { "idle", "walk", "eat", "sleep", "gift", "dead", "preview" }) {
+            assertTrue("Missing clip " + id, registry.contains(id));
+        }
+    }
+
+    /**
+     * Test Case Name: Clip Playback Settings
+     * <p><b>Test Case Description:</b> Verifies frame counts, frame duration, loop modes and next clips.</p>
+     */
+    @Test
+    public void testClipPlaybackSettings() {
+        AnimationRegistry registry = AnimationRegistry.get();
+
+        AnimationClip idle = registry.clip("idle");
+        assertEquals(7, idle.getFrameCount());
+        assertEquals(200, idle.getFrameDuration().toMillis(), 0.001);
+        assertEquals(SpriteAnimation.INDEFINITE, idle.getCycleCount());
+        assertNull(idle.getNext());
+
+        AnimationClip eat = registry.clip("eat");
+        assertEquals(2, eat.getCycleCount());
+        assertEquals("idle", eat.getNext());
+
+        AnimationClip sleep = registry.clip("sleep");
+        assertEquals(21, sleep.getFrameCount());
+        assertEquals(1, sleep.getCycleCount());
+
+        assertEquals(1000, registry.clip("preview").getLoopPause().toMillis(), 0.001);
+        assertNull(registry.clip("dead").getNext());
+    }
+
+    /**
+     * Test Case Name: Unknown Clip
+     * <p><b>Test Case Description:</b> Ensures requesting an undefined clip fails loudly.</p>
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownClip() {
+        AnimationRegistry.get().clip("moonwalk");
+    }
+}
@@ -0,0 +1,218 @@
+package Application.Sprites;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.stream.ImageInputStream;
+
+import org.w3c.dom.Node;
+
+import javafx.embed.swing.SwingFXUtils;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundImage;
+import javafx.scene.layout.BackgroundPosition;
+import javafx.scene.layout.BackgroundRepeat;
+import javafx.scene.layout.BackgroundSize;
+
+/**
+ * The fully composited frames of an animated GIF, decoded once and shared.
+ * <p>
+ * Each frame is composited onto the GIF's logical screen, honouring frame offsets and
+ * disposal methods, so every entry in the ring is a complete picture. A covering
+ * {@link Background} is prebuilt for each frame, so playing the GIF only swaps references.
+ * </p>
+ */
+public final class GifFrames {
+
+    // Browsers treat delays this short as unset; so does the game.
+    private static final int MIN_DELAY_CENTIS = 2;
+    private static final int DEFAULT_DELAY_CENTIS = 10;
+    private static final String GIF_FORMAT = "javax_imageio_gif_image_1.0";
+    private static final String GIF_STREAM_FORMAT = "javax_imageio_gif_stream_1.0";
+
+    // One decoded ring per GIF path.
+    private static final Map<String, GifFrames> LOADED = new ConcurrentHashMap<>();
+
+    private final Image[] images;
+    private final Background[] backgrounds;
+    private final long[] delayNanos;
+    private final long loopNanos;
+
+    private GifFrames(Image[] images, long[] delayNanos) {
+        this.images = images;
+        this.delayNanos = delayNanos;
+        this.backgrounds = new Background[images.length];
+        long total = 0;
+        for (int i = 0; i < images.length; i++) {
+            backgrounds[i] = new Background(new BackgroundImage(
+                    images[i],
+                    BackgroundRepeat.NO_REPEAT,
+                    BackgroundRepeat.NO_REPEAT,
+                    BackgroundPosition.CENTER,
+                    new BackgroundSize(BackgroundSize.AUTO, BackgroundSize.AUTO, false, false, true, true)));
+            total += delayNanos[i];
+        }
+        this.loopNanos = Math.max(1, total);
+    }
+
+    /**
+     * Returns the decoded frames of a GIF, decoding it on first use.
+     *
+     * @param path the GIF path or URL (e.g. "file:src/assets/homeBackground.gif")
+     * @return the shared frame ring
+     * @throws IllegalArgumentException if the GIF cannot be read
+     */
+    public static GifFrames forPath(String path) {
+        return LOADED.computeIfAbsent(path, GifFrames::decode);
+    }
+
+    /**
+     * Returns the number of frames in the ring.
+     *
+     * @return the frame count
+     */
+    public int length() {
+        return images.length;
+    }
+
+    /**
+     * Retrieves a composited frame.
+     *
+     * @param index the frame index
+     * @return the frame image
+     */
+    public Image getImage(int index) {
+        return images[index];
+    }
+
+    /**
+     * Retrieves the prebuilt covering background for a frame.
+     *
+     * @param index the frame index
+     * @return the frame background
+     */
+    public Background getBackground(int index) {
+        return backgrounds[index];
+    }
+
+    /**
+     * Returns the frame on screen at a point in the loop.
+     *
+     * @param elapsedNanos the time since playback started
+     * @return the frame index
+     */
+    public int frameAt(long elapsedNanos) {
+        long t = Math.floorMod(elapsedNanos, loopNanos);
+        for (int i = 0; i < delayNanos.length; i++) {
+            if (t < delayNanos[i]) {
+                return i;
+            }
+            t -= delayNanos[i];
+        }
+        return delayNanos.length - 1;
+    }
+
+    // Reads every frame, compositing each onto the logical screen.
+    private static GifFrames decode(String path) {
+        File file = new File(SpriteAtlas.stripScheme(path));
+        try (ImageInputStream input = ImageIO.createImageInputStream(file)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReadersByFormatName("gif");
+            if (input == null || !readers.hasNext()) {
+                throw new IOException("No GIF reader available for " + path);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, false);
+                int frameCount = reader.getNumImages(true);
+
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                Node screen = child(reader.getStreamMetadata().getAsTree(GIF_STREAM_FORMAT), "LogicalScreenDescriptor");
+                if (screen != null) {
+                    width = intAttribute(screen, "logicalScreenWidth", width);
+                    height = intAttribute(screen, "logicalScreenHeight", height);
+                }
+
+                BufferedImage canvas = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+                List<Image> images = new ArrayList<>();
+                long[] delays = new long[frameCount];
+                for (int i = 0; i < frameCount; i++) {
+                    BufferedImage frame = reader.read(i);
+                    IIOMetadata metadata = reader.getImageMetadata(i);
+                    Node tree = metadata.getAsTree(GIF_FORMAT);
+                    Node descriptor = child(tree, "ImageDescriptor");
+                    Node control = child(tree, "GraphicControlExtension");
+                    int x = descriptor != null ? intAttribute(descriptor, "imageLeftPosition", 0) : 0;
+                    int y = descriptor != null ? intAttribute(descriptor, "imageTopPosition", 0) : 0;
+                    String disposal = control != null ? attribute(control, "disposalMethod") : "none";
+                    int delay = control != null ? intAttribute(control, "delayTime", 0) : 0;
+                    delays[i] = (delay < MIN_DELAY_CENTIS ? DEFAULT_DELAY_CENTIS : delay) * 10_000_000L;
+
+                    BufferedImage previous = "restoreToPrevious".equals(disposal) ? copy(canvas) : null;
+                    Graphics2D g = canvas.createGraphics();
+                    g.drawImage(frame, x, y, null);
+                    g.dispose();
+                    images.add(SwingFXUtils.toFXImage(canvas, null));
+
+                    // Prepare the canvas for the next frame as the disposal method asks.
+                    if ("restoreToBackgroundColor".equals(disposal)) {
+                        Graphics2D clear = canvas.createGraphics();
+                        clear.setComposite(AlphaComposite.Clear);
+                        clear.fillRect(x, y, frame.getWidth(), frame.getHeight());
+                        clear.dispose();
+                    } else if (previous != null) {
+                        canvas = previous;
+                    }
+                }
+                return new GifFrames(images.toArray(new Image[0]), delays);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not decode GIF " + path, e);
+        }
+    }
+
+    private static BufferedImage copy(BufferedImage source) {
+        BufferedImage copy = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = copy.createGraphics();
+        g.drawImage(source, 0, 0, null);
+        g.dispose();
+        return copy;
+    }
+
+    private static Node child(Node parent, String name) {
+        for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (name.equals(node.getNodeName())) {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private static String attribute(Node node, String name) {
+        Node value = node.getAttributes().getNamedItem(name);
+        return value != null ? value.getNodeValue() : null;
+    }
+
+    private static int intAttribute(Node node, String name, int fallback) {
+        String value = attribute(node, name);
+        try {
+            return value != null ? Integer.parseInt(value) : fallback;
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package Application.Sprites;
+
+import javafx.scene.image.ImageView;
+import javafx.util.Duration;
+
+/**
+ * A frame-by-frame sprite animation played on the shared {@link SpriteAnimator} clock.
+ * <p>
+ * The API mirrors the parts of {@code Timeline} the game used for sprites: a cycle count,
+ * an on-finished callback, and play/stop. Each cycle is one full pass through the frames,
+ * optionally followed by a pause on the last frame before the next pass begins.
+ * </p>
+ */
+public class SpriteAnimation implements Animated {
+
+    /** Cycle count that makes the animation loop until it is stopped. */
+    public static final int INDEFINITE = -1;
+
+    private final ImageView view;
+    private final SpriteFrames frames;
+    private final long frameNanos;
+    private long loopPauseNanos = 0;
+    private int cycleCount = INDEFINITE;
+    private Runnable onFinished;
+
+    // Playback state, maintained by the animator.
+    private long startNanos;
+    private int shownFrame = -1;
+    private boolean playing = false;
+
+    /**
+     * Creates an animation that shows each frame for the given duration.
+     *
+     * @param view          the ImageView the frames are shown in
+     * @param frames        the frames to play
+     * @param frameDuration how long each frame stays on screen
+     */
+    public SpriteAnimation(ImageView view, SpriteFrames frames, Duration frameDuration) {
+        this.view = view;
+        this.frames = frames;
+        this.frameNanos = Math.max(1, (long) (frameDuration.toMillis() * 1_000_000L));
+    }
+
+    /**
+     * Sets how many full passes through the frames are played before finishing.
+     *
+     * @param cycleCount the number of passes, or {@link #INDEFINITE} to loop forever
+     */
+    public void setCycleCount(int cycleCount) {
+        this.cycleCount = cycleCount;
+    }
+
+    /**
+     * Sets an extra pause, holding the last frame, at the end of every pass.
+     *
+     * @param pause the pause duration
+     */
+    public void setLoopPause(Duration pause) {
+        this.loopPauseNanos = (long) (pause.toMillis() * 1_000_000L);
+    }
+
+    /**
+     * Sets the callback run once the last cycle has completed.
+     *
+     * @param onFinished the callback, or null for none
+     */
+    public void setOnFinished(Runnable onFinished) {
+        this.onFinished = onFinished;
+    }
+
+    /**
+     * Starts the animation from its first frame, restarting it if it is already playing.
+     */
+    public void play() {
+        frames.attach(view);
+        startNanos = System.nanoTime();
+        shownFrame = -1;
+        playing = true;
+        SpriteAnimator.get().register(this);
+    }
+
+    /**
+     * Stops the animation, leaving the current frame on screen.
+     */
+    public void stop() {
+        if (playing) {
+            playing = false;
+            SpriteAnimator.get().unregister(this);
+        }
+    }
+
+    /**
+     * Checks whether the animation is currently playing.
+     *
+     * @return true if the animation is registered with the animator
+     */
+    public boolean isPlaying() {
+        return playing;
+    }
+
+    /**
+     * Retrieves the ImageView the animation draws into.
+     *
+     * @return the target view
+     */
+    public ImageView getView() {
+        return view;
+    }
+
+    /**
+     * Advances the animation to the given pulse time.
+     *
+     * @param now the pulse timestamp in nanoseconds
+     * @return true if the animation has completed its last cycle
+     */
+    @Override
+    public boolean update(long now) {
+        int frameCount = frames.length();
+        long passNanos = frameCount * frameNanos + loopPauseNanos;
+        long elapsed = Math.max(0, now - startNanos);
+
+        if (cycleCount != INDEFINITE && elapsed >= passNanos * cycleCount) {
+            showFrame(frameCount - 1);
+            return true;
+        }
+
+        int frame = (int) Math.min((elapsed % passNanos) / frameNanos, frameCount - 1);
+        showFrame(frame);
+        return false;
+    }
+
+    /**
+     * Marks the animation as stopped and runs its on-finished callback.
+     */
+    @Override
+    public void finish() {
+        playing = false;
+        if (onFinished != null) {
+            onFinished.run();
+        }
+    }
+
+    // Moves the viewport only when the visible frame actually changes.
+    private void showFrame(int frame) {
+        if (frame != shownFrame) {
+            frames.show(view, frame);
+            shownFrame = frame;
+        }
+    }
+}
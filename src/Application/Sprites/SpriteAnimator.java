@@ -0,0 +1,134 @@
+package Application.Sprites;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.animation.AnimationTimer;
+
+/**
+ * A single animation clock that drives every playing {@link SpriteAnimation} and animated background.
+ * <p>
+ * One {@link AnimationTimer} advances all registered animations on each pulse, so the cost
+ * per frame stays flat however many ducks are on screen. The timer only runs while at least
+ * one animation is playing, and can be throttled or suspended while the game is not visible.
+ * </p>
+ */
+public final class SpriteAnimator {
+
+    /** Frame rate limit meaning every pulse is processed. */
+    public static final double UNLIMITED = -1;
+
+    private static final SpriteAnimator INSTANCE = new SpriteAnimator();
+
+    private final List<Animated> active = new ArrayList<>();
+    // Reused between pulses to collect animations that completed on this pulse.
+    private final List<Animated> finished = new ArrayList<>();
+    private final AnimationTimer timer;
+    private boolean running = false;
+    // Minimum time between processed pulses; 0 processes every pulse.
+    private long minPulseNanos = 0;
+    private boolean suspended = false;
+    private long lastPulse = 0;
+
+    private SpriteAnimator() {
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                pulse(now);
+            }
+        };
+    }
+
+    /**
+     * Retrieves the shared animator.
+     *
+     * @return the process-wide animator
+     */
+    public static SpriteAnimator get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the number of animations currently playing.
+     *
+     * @return the active animation count
+     */
+    public int getActiveCount() {
+        return active.size();
+    }
+
+    /**
+     * Limits how often animations are advanced.
+     * <p>
+     * A positive limit skips pulses that arrive sooner than {@code 1 / fps} after the last
+     * processed one. A limit of 0 suspends the clock entirely, leaving animations registered
+     * so they pick up where wall-clock time has taken them once the limit is lifted.
+     * </p>
+     *
+     * @param fps the maximum frames per second, 0 to suspend, or {@link #UNLIMITED}
+     */
+    public void setFrameRateLimit(double fps) {
+        suspended = fps == 0;
+        minPulseNanos = fps > 0 ? (long) (1_000_000_000L / fps) : 0;
+        if (suspended && running) {
+            running = false;
+            timer.stop();
+        } else if (!suspended && !running && !active.isEmpty()) {
+            running = true;
+            timer.start();
+        }
+    }
+
+    /**
+     * Adds an animation to the clock, starting the timer if it was idle.
+     *
+     * @param animation the animation to drive
+     */
+    void register(Animated animation) {
+        if (!active.contains(animation)) {
+            active.add(animation);
+        }
+        if (!running && !suspended) {
+            running = true;
+            timer.start();
+        }
+    }
+
+    /**
+     * Removes an animation from the clock, stopping the timer once nothing is playing.
+     *
+     * @param animation the animation to remove
+     */
+    void unregister(Animated animation) {
+        active.remove(animation);
+        if (active.isEmpty() && running) {
+            running = false;
+            timer.stop();
+        }
+    }
+
+    // Advances every animation, then runs the callbacks of those that completed.
+    private void pulse(long now) {
+        if (minPulseNanos > 0 && now - lastPulse < minPulseNanos) {
+            return;
+        }
+        lastPulse = now;
+        for (int i = active.size() - 1; i >= 0; i--) {
+            Animated animation = active.get(i);
+            if (animation.update(now)) {
+                active.remove(i);
+                finished.add(animation);
+            }
+        }
+        // Callbacks run after the sweep because they commonly start a new animation.
+        for (int i = 0; i < finished.size(); i++) {
+            finished.get(i).finish();
+        }
+        finished.clear();
+
+        if (active.isEmpty() && running) {
+            running = false;
+            timer.stop();
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package Application.Sprites;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.imageio.ImageIO;
+
+import org.json.JSONObject;
+
+import javafx.embed.swing.SwingFXUtils;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+/**
+ * Packs every tile of a sprite folder into one texture plus an index of tile regions.
+ * <p>
+ * The first time a folder is requested its PNG tiles are decoded once and copied into a
+ * grid on a single {@link WritableImage}. The packed image and its index are written to the
+ * "spriteCache" directory, so later starts open and decode one file per folder instead of
+ * one per tile. Animations then show a frame by moving an ImageView's viewport over the
+ * atlas rather than swapping images.
+ * </p>
+ * <p>
+ * Only the base duck sprites are stored on disk. Other duck colours are recoloured copies of
+ * the base atlas produced by a {@link SpritePalette}; they share the base atlas's region index.
+ * </p>
+ */
+public final class SpriteAtlas {
+
+    // Directory holding packed atlases between runs, next to the save files.
+    private static final File CACHE_DIR = new File("spriteCache");
+    // Transparent gutter between cells so smooth scaling never samples a neighbouring tile.
+    private static final int PADDING = 2;
+
+    // One atlas per sprite folder, shared by every caller.
+    private static final Map<String, SpriteAtlas> ATLASES = new ConcurrentHashMap<>();
+
+    private final Image image;
+    private final Map<String, Rectangle2D> regions;
+    // Recoloured copies of this atlas keyed by palette, created on first use.
+    private final Map<String, SpriteAtlas> variants = new ConcurrentHashMap<>();
+    // Off-heap copy of the atlas pixels for buffer rendering, decoded on first use.
+    private IntBuffer pixels;
+
+    private SpriteAtlas(Image image, Map<String, Rectangle2D> regions) {
+        this.image = image;
+        this.regions = regions;
+    }
+
+    /**
+     * Returns the atlas for a sprite folder, packing it on first use.
+     *
+     * @param folder the folder path relative to the working directory (e.g. "src/assets/duckSpriteSheet")
+     * @return the shared atlas for the folder
+     */
+    public static SpriteAtlas forFolder(String folder) {
+        return ATLASES.computeIfAbsent(folder, SpriteAtlas::loadOrPack);
+    }
+
+    /**
+     * Resolves a list of tile paths into atlas frames.
+     * <p>
+     * All paths must belong to the same sprite folder, which is how every duck animation is laid out.
+     * </p>
+     *
+     * @param paths the tile URLs in playback order (e.g. "file:src/assets/duckSpriteSheet/duck002.png")
+     * @return the atlas image and the region of every frame
+     */
+    public static SpriteFrames frames(String[] paths) {
+        return frames(paths, "white");
+    }
+
+    /**
+     * Resolves a list of base tile paths into atlas frames recoloured for a duck colour.
+     *
+     * @param paths  the base tile URLs in playback order
+     * @param colour the duck colour whose palette is applied
+     * @return the recoloured atlas image and the region of every frame
+     */
+    public static SpriteFrames frames(String[] paths, String colour) {
+        File first = new File(stripScheme(paths[0]));
+        SpriteAtlas atlas = forFolder(first.getParent().replace(File.separatorChar, '/')).recoloured(colour);
+        Rectangle2D[] frameRegions = new Rectangle2D[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            frameRegions[i] = atlas.region(new File(stripScheme(paths[i])).getName());
+        }
+        return new SpriteFrames(atlas, frameRegions);
+    }
+
+    /**
+     * Returns this atlas recoloured with the palette of a duck colour.
+     * <p>
+     * Each colour is recoloured once and cached; the identity palette returns this atlas.
+     * </p>
+     *
+     * @param colour the duck colour
+     * @return the recoloured atlas
+     */
+    public SpriteAtlas recoloured(String colour) {
+        SpritePalette palette = SpritePalette.forColour(colour);
+        if (palette.isIdentity()) {
+            return this;
+        }
+        return variants.computeIfAbsent(SpritePalette.keyFor(colour),
+                key -> new SpriteAtlas(palette.apply(image), regions));
+    }
+
+    /**
+     * Retrieves the packed atlas image.
+     *
+     * @return the atlas image
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * Returns the atlas pixels as premultiplied ARGB in a direct buffer.
+     * <p>
+     * The store is read from the atlas image once and then shared by every
+     * {@link SpriteFrameBuffer} that draws frames from this atlas.
+     * </p>
+     *
+     * @return the atlas pixels, one int per pixel, row by row
+     */
+    public synchronized IntBuffer pixels() {
+        if (pixels == null) {
+            int width = (int) image.getWidth();
+            int height = (int) image.getHeight();
+            IntBuffer store = ByteBuffer.allocateDirect(width * height * Integer.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asIntBuffer();
+            image.getPixelReader().getPixels(0, 0, width, height, PixelFormat.getIntArgbPreInstance(), store, width);
+            pixels = store;
+        }
+        return pixels;
+    }
+
+    /**
+     * Retrieves the region of a tile within the atlas.
+     *
+     * @param tileName the tile file name (e.g. "duck002.png")
+     * @return the tile's region in atlas pixel coordinates
+     * @throws IllegalArgumentException if the folder contains no such tile
+     */
+    public Rectangle2D region(String tileName) {
+        Rectangle2D region = regions.get(tileName);
+        if (region == null) {
+            throw new IllegalArgumentException("No tile named " + tileName + " in sprite atlas");
+        }
+        return region;
+    }
+
+    /**
+     * Returns the number of tiles packed into the atlas.
+     *
+     * @return the tile count
+     */
+    public int size() {
+        return regions.size();
+    }
+
+    // Loads a cached atlas for the folder if it is still current, otherwise packs a new one.
+    private static SpriteAtlas loadOrPack(String folder) {
+        File[] tiles = listTiles(folder);
+        String name = new File(folder).getName();
+        File imageFile = new File(CACHE_DIR, name + ".png");
+        File indexFile = new File(CACHE_DIR, name + ".json");
+
+        SpriteAtlas cached = loadCached(imageFile, indexFile, tiles);
+        if (cached != null) {
+            return cached;
+        }
+
+        SpriteAtlas packed = pack(tiles);
+        writeCache(packed, imageFile, indexFile, tiles);
+        return packed;
+    }
+
+    // Decodes every tile once and copies it into a grid on a single image.
+    private static SpriteAtlas pack(File[] tiles) {
+        Image[] decoded = new Image[tiles.length];
+        int cellWidth = 1;
+        int cellHeight = 1;
+        for (int i = 0; i < tiles.length; i++) {
+            decoded[i] = new Image(tiles[i].toURI().toString());
+            cellWidth = Math.max(cellWidth, (int) decoded[i].getWidth());
+            cellHeight = Math.max(cellHeight, (int) decoded[i].getHeight());
+        }
+
+        int columns = Math.max(1, (int) Math.ceil(Math.sqrt(tiles.length)));
+        int rows = Math.max(1, (tiles.length + columns - 1) / columns);
+        int strideX = cellWidth + PADDING;
+        int strideY = cellHeight + PADDING;
+        WritableImage atlas = new WritableImage(columns * strideX + PADDING, rows * strideY + PADDING);
+        PixelWriter writer = atlas.getPixelWriter();
+
+        Map<String, Rectangle2D> regions = new HashMap<>();
+        for (int i = 0; i < tiles.length; i++) {
+            int x = PADDING + (i % columns) * strideX;
+            int y = PADDING + (i / columns) * strideY;
+            int width = (int) decoded[i].getWidth();
+            int height = (int) decoded[i].getHeight();
+            PixelReader reader = decoded[i].getPixelReader();
+            if (reader != null) {
+                writer.setPixels(x, y, width, height, reader, 0, 0);
+            }
+            regions.put(tiles[i].getName(), new Rectangle2D(x, y, width, height));
+        }
+        return new SpriteAtlas(atlas, regions);
+    }
+
+    // Reads a previously packed atlas, returning null if it is missing or out of date.
+    private static SpriteAtlas loadCached(File imageFile, File indexFile, File[] tiles) {
+        if (!imageFile.exists() || !indexFile.exists()) {
+            return null;
+        }
+        try {
+            JSONObject index = new JSONObject(new String(Files.readAllBytes(indexFile.toPath())));
+            if (index.getInt("tiles") != tiles.length || index.getLong("modified") != newestModified(tiles)) {
+                return null;
+            }
+            JSONObject regionsJson = index.getJSONObject("regions");
+            Map<String, Rectangle2D> regions = new HashMap<>();
+            for (String tileName : regionsJson.keySet()) {
+                JSONObject r = regionsJson.getJSONObject(tileName);
+                regions.put(tileName, new Rectangle2D(r.getInt("x"), r.getInt("y"), r.getInt("w"), r.getInt("h")));
+            }
+            Image image = new Image(imageFile.toURI().toString());
+            return image.isError() ? null : new SpriteAtlas(image, regions);
+        } catch (Exception e) {
+            // A damaged cache is simply rebuilt.
+            return null;
+        }
+    }
+
+    // Persists the packed atlas and its index so the next start skips packing.
+    private static void writeCache(SpriteAtlas atlas, File imageFile, File indexFile, File[] tiles) {
+        JSONObject regionsJson = new JSONObject();
+        for (Map.Entry<String, Rectangle2D> entry : atlas.regions.entrySet()) {
+            Rectangle2D r = entry.getValue();
+            JSONObject regionJson = new JSONObject();
+            regionJson.put("x", (int) r.getMinX());
+            regionJson.put("y", (int) r.getMinY());
+            regionJson.put("w", (int) r.getWidth());
+            regionJson.put("h", (int) r.getHeight());
+            regionsJson.put(entry.getKey(), regionJson);
+        }
+        JSONObject index = new JSONObject();
+        index.put("tiles", tiles.length);
+        index.put("modified", newestModified(tiles));
+        index.put("regions", regionsJson);
+
+        try {
+            CACHE_DIR.mkdirs();
+            ImageIO.write(SwingFXUtils.fromFXImage(atlas.image, null), "png", imageFile);
+            try (FileWriter writer = new FileWriter(indexFile)) {
+                writer.write(index.toString(4));
+            }
+        } catch (IOException e) {
+            // The in-memory atlas is still usable; packing just happens again next start.
+            e.printStackTrace();
+        }
+    }
+
+    // Lists the PNG tiles of a folder in a stable order, skipping images that are not tile-sized.
+    private static File[] listTiles(String folder) {
+        File[] files = new File(folder).listFiles((dir, fileName) -> fileName.endsWith(".png"));
+        if (files == null) {
+            throw new IllegalArgumentException("Sprite folder not found: " + folder);
+        }
+        Arrays.sort(files);
+
+        // Sprite folders may also hold unrelated full-size images; keep only the most common size.
+        Map<Long, Integer> sizeCounts = new HashMap<>();
+        long[] sizes = new long[files.length];
+        for (int i = 0; i < files.length; i++) {
+            sizes[i] = readPngSize(files[i]);
+            sizeCounts.merge(sizes[i], 1, Integer::sum);
+        }
+        long tileSize = 0;
+        int best = 0;
+        for (Map.Entry<Long, Integer> entry : sizeCounts.entrySet()) {
+            if (entry.getValue() > best) {
+                best = entry.getValue();
+                tileSize = entry.getKey();
+            }
+        }
+        List<File> tiles = new ArrayList<>();
+        for (int i = 0; i < files.length; i++) {
+            if (sizes[i] == tileSize) {
+                tiles.add(files[i]);
+            }
+        }
+        return tiles.toArray(new File[0]);
+    }
+
+    // Reads a PNG's dimensions from its header without decoding it, packed as (width << 32 | height).
+    static long readPngSize(File file) {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            in.skipBytes(16);
+            long width = in.readInt() & 0xFFFFFFFFL;
+            long height = in.readInt() & 0xFFFFFFFFL;
+            return (width << 32) | height;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    // Returns the latest modification time across the tiles, used to detect stale caches.
+    private static long newestModified(File[] tiles) {
+        long newest = 0;
+        for (File tile : tiles) {
+            newest = Math.max(newest, tile.lastModified());
+        }
+        return newest;
+    }
+
+    // Removes a "file:" URL prefix to obtain a filesystem path.
+    static String stripScheme(String path) {
+        return path.startsWith("file:") ? path.substring("file:".length()) : path;
+    }
+}
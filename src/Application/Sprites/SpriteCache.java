@@ -0,0 +1,92 @@
+package Application.Sprites;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javafx.scene.image.Image;
+
+/**
+ * Process-wide cache of decoded sprite images.
+ * <p>
+ * Every image is keyed by its path and requested size, decoded once, and the same
+ * {@link Image} instance is handed to every caller afterwards. Images are immutable once
+ * loaded, so a single instance can safely back any number of ImageViews at the same time.
+ * </p>
+ */
+public final class SpriteCache {
+
+    // Decoded images keyed by "path@widthxheight".
+    private static final Map<String, Image> IMAGES = new ConcurrentHashMap<>();
+
+    private SpriteCache() {
+        // Static utility class; not instantiable.
+    }
+
+    /**
+     * Returns the image at the given path decoded at its natural size.
+     *
+     * @param path the image URL (for example "file:src/assets/heartFull.png")
+     * @return the shared decoded image
+     */
+    public static Image get(String path) {
+        return get(path, 0, 0);
+    }
+
+    /**
+     * Returns the image at the given path scaled to fit the requested size.
+     * <p>
+     * The image is decoded with its aspect ratio preserved and smoothing enabled, which
+     * matches how the game's sprites have always been loaded.
+     * </p>
+     *
+     * @param path   the image URL
+     * @param width  the target width, or 0 for the natural width
+     * @param height the target height, or 0 for the natural height
+     * @return the shared decoded image
+     */
+    public static Image get(String path, double width, double height) {
+        return IMAGES.computeIfAbsent(key(path, width, height),
+                k -> new Image(path, width, height, true, true));
+    }
+
+    /**
+     * Resolves a list of frame paths into their shared decoded images.
+     * <p>
+     * Callers resolve their frames once when an animation starts, so that each frame swap
+     * afterwards is a plain array read with no decoding or allocation.
+     * </p>
+     *
+     * @param paths  the frame URLs in playback order
+     * @param width  the target width of each frame
+     * @param height the target height of each frame
+     * @return the decoded frames in the same order as {@code paths}
+     */
+    public static Image[] frames(String[] paths, double width, double height) {
+        Image[] frames = new Image[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            frames[i] = get(paths[i], width, height);
+        }
+        return frames;
+    }
+
+    /**
+     * Returns the number of distinct images currently held by the cache.
+     *
+     * @return the cached image count
+     */
+    public static int size() {
+        return IMAGES.size();
+    }
+
+    /**
+     * Drops every cached image. Images already attached to views stay valid.
+     */
+    public static void clear() {
+        IMAGES.clear();
+    }
+
+    // Builds the cache key for a path and target size.
+    private static String key(String path, double width, double height) {
+        return path + "@" + width + "x" + height;
+    }
+}
@@ -0,0 +1,104 @@
+package Application.Sprites;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelBuffer;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+/**
+ * A fixed-size image whose pixels live in a direct buffer shared with the renderer.
+ * <p>
+ * The image is created once over a {@link PixelBuffer}; showing a frame copies that frame's
+ * pixels from an atlas's off-heap store into the buffer and asks JavaFX to re-upload it.
+ * No {@link Image} objects or heap pixel arrays are created per frame, so memory stays flat
+ * however long an animation runs.
+ * </p>
+ * <p>
+ * Must only be used on the JavaFX application thread.
+ * </p>
+ */
+public final class SpriteFrameBuffer {
+
+    private final int width;
+    private final int height;
+    private final IntBuffer pixels;
+    private final PixelBuffer<IntBuffer> pixelBuffer;
+    private final WritableImage image;
+
+    /**
+     * Creates a frame buffer of the given size, initially fully transparent.
+     *
+     * @param width  the frame width in pixels
+     * @param height the frame height in pixels
+     */
+    public SpriteFrameBuffer(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.pixels = ByteBuffer.allocateDirect(width * height * Integer.BYTES)
+                .order(ByteOrder.nativeOrder())
+                .asIntBuffer();
+        this.pixelBuffer = new PixelBuffer<>(width, height, pixels, PixelFormat.getIntArgbPreInstance());
+        this.image = new WritableImage(pixelBuffer);
+    }
+
+    /**
+     * Retrieves the image backed by this buffer, to be set once on an ImageView.
+     *
+     * @return the buffer-backed image
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * Returns the frame width.
+     *
+     * @return the width in pixels
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the frame height.
+     *
+     * @return the height in pixels
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Copies one region of a source pixel store into the buffer and marks the image dirty.
+     * <p>
+     * Regions smaller than the buffer are drawn at the top-left with the rest left transparent;
+     * larger regions are clipped.
+     * </p>
+     *
+     * @param source       premultiplied ARGB pixels of the source image
+     * @param sourceStride the width of a source row in pixels
+     * @param region       the area of the source to copy
+     */
+    void blit(IntBuffer source, int sourceStride, Rectangle2D region) {
+        int copyWidth = Math.min(width, (int) region.getWidth());
+        int copyHeight = Math.min(height, (int) region.getHeight());
+        int sourceX = (int) region.getMinX();
+        int sourceY = (int) region.getMinY();
+
+        if (copyWidth < width || copyHeight < height) {
+            for (int i = 0; i < width * height; i++) {
+                pixels.put(i, 0);
+            }
+        }
+        for (int row = 0; row < copyHeight; row++) {
+            pixels.put(row * width, source, (sourceY + row) * sourceStride + sourceX, copyWidth);
+        }
+        // The whole frame changed; returning null re-uploads the full buffer.
+        pixelBuffer.updateBuffer(buffer -> null);
+    }
+}
@@ -0,0 +1,127 @@
+package Application.Sprites;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+/**
+ * An ordered run of animation frames stored in a single sprite atlas.
+ * <p>
+ * By default showing a frame only moves the ImageView's viewport; the atlas image itself is
+ * attached once when the animation starts. Frames bound to a {@link SpriteFrameBuffer} instead
+ * show the buffer's image and copy each frame into it from the atlas's off-heap pixel store.
+ * </p>
+ */
+public final class SpriteFrames {
+
+    private final SpriteAtlas atlas;
+    private final Image image;
+    private final Rectangle2D[] regions;
+    // Target of buffer rendering, or null to render by viewport.
+    private final SpriteFrameBuffer buffer;
+
+    /**
+     * Creates a frame run over an atlas image.
+     *
+     * @param image   the atlas image every frame is taken from
+     * @param regions the atlas region of each frame in playback order
+     */
+    public SpriteFrames(Image image, Rectangle2D[] regions) {
+        this(null, image, regions, null);
+    }
+
+    /**
+     * Creates a frame run over a packed sprite atlas.
+     *
+     * @param atlas   the atlas every frame is taken from
+     * @param regions the atlas region of each frame in playback order
+     */
+    SpriteFrames(SpriteAtlas atlas, Rectangle2D[] regions) {
+        this(atlas, atlas.getImage(), regions, null);
+    }
+
+    private SpriteFrames(SpriteAtlas atlas, Image image, Rectangle2D[] regions, SpriteFrameBuffer buffer) {
+        this.atlas = atlas;
+        this.image = image;
+        this.regions = regions;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Returns the same frames rendered by copying into a frame buffer instead of by viewport.
+     *
+     * @param buffer the buffer to draw frames into
+     * @return frames that render into {@code buffer}
+     * @throws IllegalStateException if the frames were not resolved from a sprite atlas
+     */
+    public SpriteFrames renderedInto(SpriteFrameBuffer buffer) {
+        if (atlas == null) {
+            throw new IllegalStateException("Buffer rendering needs frames resolved from a SpriteAtlas");
+        }
+        return new SpriteFrames(atlas, image, regions, buffer);
+    }
+
+    /**
+     * Attaches the atlas to a view.
+     * <p>
+     * If the view was showing a different image, it is switched to the first frame straight
+     * away; otherwise the current frame stays on screen until the next tick.
+     * </p>
+     *
+     * @param view the ImageView to display the frames in
+     */
+    public void attach(ImageView view) {
+        if (buffer != null) {
+            if (view.getImage() != buffer.getImage()) {
+                view.setViewport(null);
+                view.setImage(buffer.getImage());
+                show(view, 0);
+            }
+        } else if (view.getImage() != image) {
+            view.setImage(image);
+            view.setViewport(regions[0]);
+        }
+    }
+
+    /**
+     * Shows a frame on a view that already has these frames attached.
+     *
+     * @param view  the ImageView to update
+     * @param index the frame index
+     */
+    public void show(ImageView view, int index) {
+        if (buffer != null) {
+            buffer.blit(atlas.pixels(), (int) image.getWidth(), regions[index]);
+        } else {
+            view.setViewport(regions[index]);
+        }
+    }
+
+    /**
+     * Retrieves the atlas image the frames are taken from.
+     *
+     * @return the atlas image
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * Retrieves the atlas region of a frame.
+     *
+     * @param index the frame index
+     * @return the frame's region in atlas pixel coordinates
+     */
+    public Rectangle2D region(int index) {
+        return regions[index];
+    }
+
+    /**
+     * Returns the number of frames.
+     *
+     * @return the frame count
+     */
+    public int length() {
+        return regions.length;
+    }
+}
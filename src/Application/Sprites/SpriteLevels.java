@@ -0,0 +1,170 @@
+package Application.Sprites;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.WeakInvalidationListener;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundImage;
+import javafx.scene.layout.BackgroundPosition;
+import javafx.scene.layout.BackgroundRepeat;
+import javafx.scene.layout.BackgroundSize;
+import javafx.scene.layout.Region;
+import javafx.stage.Screen;
+import javafx.stage.Window;
+
+/**
+ * Pre-scaled levels of the game's large images, chosen to match the window and display scale.
+ * <p>
+ * Screens are designed at 800x600. Instead of decoding a background at full resolution and
+ * letting JavaFX shrink it with smoothing on every pulse, each background is decoded once per
+ * level (1x, 1.5x or 2x of the design size) and the level nearest to the current window scale
+ * times the display's output scale is shown. Small windows never hold a full-size decode, and
+ * HiDPI or enlarged windows switch to a sharper level.
+ * </p>
+ */
+public final class SpriteLevels {
+
+    /** Width of the layout every screen is designed for. */
+    public static final double DESIGN_WIDTH = 800;
+    /** Height of the layout every screen is designed for. */
+    public static final double DESIGN_HEIGHT = 600;
+
+    // Scale factors images are pre-scaled to, relative to the design size.
+    private static final double[] LEVELS = { 1.0, 1.5, 2.0 };
+
+    // Backgrounds keyed by "path@level".
+    private static final Map<String, Background> BACKGROUNDS = new ConcurrentHashMap<>();
+
+    private SpriteLevels() {
+        // Static utility class; not instantiable.
+    }
+
+    /**
+     * Returns the pre-scaled level closest to a render scale.
+     *
+     * @param renderScale the device pixels per design pixel (window scale times output scale)
+     * @return one of 1.0, 1.5 or 2.0
+     */
+    public static double nearestLevel(double renderScale) {
+        double best = LEVELS[0];
+        for (double level : LEVELS) {
+            if (Math.abs(level - renderScale) < Math.abs(best - renderScale)) {
+                best = level;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Computes how many device pixels a design pixel covers in a region.
+     * <p>
+     * The window scale is how much the region has been stretched past the design size, taking
+     * the larger axis since backgrounds cover the region. The output scale is the HiDPI factor
+     * of the window's screen, or of the primary screen while the region is not shown.
+     * </p>
+     *
+     * @param region the region being drawn
+     * @return the render scale
+     */
+    public static double renderScale(Region region) {
+        double windowScale = Math.max(region.getWidth() / DESIGN_WIDTH, region.getHeight() / DESIGN_HEIGHT);
+        if (!(windowScale > 0)) {
+            windowScale = 1.0;
+        }
+        Window window = region.getScene() != null ? region.getScene().getWindow() : null;
+        double outputScale = window != null ? window.getOutputScaleX() : Screen.getPrimary().getOutputScaleX();
+        return windowScale * outputScale;
+    }
+
+    /**
+     * Returns an image decoded to cover the design size at a level.
+     * <p>
+     * The image keeps its aspect ratio and is never decoded larger than its source. Decoded
+     * images are shared through {@link SpriteCache}.
+     * </p>
+     *
+     * @param path  the image URL (e.g. "file:src/assets/menu.png")
+     * @param level the pre-scaled level
+     * @return the shared decoded image
+     */
+    public static Image image(String path, double level) {
+        long size = SpriteAtlas.readPngSize(new File(SpriteAtlas.stripScheme(path)));
+        double sourceWidth = size > 0 ? (double) (size >>> 32) : 0;
+        double sourceHeight = size > 0 ? (double) (size & 0xFFFFFFFFL) : 0;
+        if (sourceWidth <= 0 || sourceHeight <= 0) {
+            // Unknown size (not a PNG); decode as-is.
+            return SpriteCache.get(path);
+        }
+        double cover = Math.max(DESIGN_WIDTH / sourceWidth, DESIGN_HEIGHT / sourceHeight) * level;
+        if (cover >= 1.0) {
+            return SpriteCache.get(path);
+        }
+        return SpriteCache.get(path, Math.ceil(sourceWidth * cover), Math.ceil(sourceHeight * cover));
+    }
+
+    /**
+     * Returns a centred, covering background for an image at a level.
+     *
+     * @param path  the image URL
+     * @param level the pre-scaled level
+     * @return the shared background
+     */
+    public static Background background(String path, double level) {
+        return BACKGROUNDS.computeIfAbsent(path + "@" + level, key -> new Background(new BackgroundImage(
+                image(path, level),
+                BackgroundRepeat.NO_REPEAT,
+                BackgroundRepeat.NO_REPEAT,
+                BackgroundPosition.CENTER,
+                new BackgroundSize(BackgroundSize.AUTO, BackgroundSize.AUTO, false, false, true, true))));
+    }
+
+    /**
+     * Gives a region a covering background image that follows the window and display scale.
+     * <p>
+     * The background is set straight away at the current scale and swapped for another level
+     * whenever resizing, or moving into a window on another display, makes a different level
+     * the nearest one.
+     * </p>
+     *
+     * @param region the region to decorate
+     * @param path   the image URL
+     */
+    public static void bindBackground(Region region, String path) {
+        double[] shownLevel = { nearestLevel(renderScale(region)) };
+        region.setBackground(background(path, shownLevel[0]));
+
+        InvalidationListener rescale = observable -> {
+            double level = nearestLevel(renderScale(region));
+            if (level != shownLevel[0]) {
+                shownLevel[0] = level;
+                region.setBackground(background(path, level));
+            }
+        };
+        region.widthProperty().addListener(rescale);
+        region.heightProperty().addListener(rescale);
+
+        // The window outlives any screen, so it only holds a weak reference to the listener;
+        // the region keeps it alive. Cached screens move between scenes on every navigation,
+        // so the listener follows the region's window instead of being added again each time.
+        region.getProperties().put(SpriteLevels.class, rescale);
+        WeakInvalidationListener weakRescale = new WeakInvalidationListener(rescale);
+        Window[] watchedWindow = { null };
+        region.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            Window window = newScene != null ? newScene.getWindow() : null;
+            if (window != watchedWindow[0]) {
+                if (watchedWindow[0] != null) {
+                    watchedWindow[0].outputScaleXProperty().removeListener(weakRescale);
+                }
+                if (window != null) {
+                    window.outputScaleXProperty().addListener(weakRescale);
+                }
+                watchedWindow[0] = window;
+            }
+            rescale.invalidated(obs);
+        });
+    }
+}
@@ -0,0 +1,107 @@
+package Application.Sprites;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+/**
+ * A colour-swap palette used to derive duck breeds from the base white sprites.
+ * <p>
+ * Every duck colour shares the same line art; only the body colour differs. A palette maps
+ * exact ARGB values of the base sprites to their replacement, so a new breed is one entry
+ * in {@link #PALETTES} instead of a new folder of tiles.
+ * </p>
+ */
+public final class SpritePalette {
+
+    // Body colour of the base sprites in duckSpriteSheet.
+    private static final int BASE_BODY = 0xFFFFFFFF;
+
+    // Palettes keyed by duck colour name.
+    private static final Map<String, SpritePalette> PALETTES = new HashMap<>();
+    static {
+        PALETTES.put("white", new SpritePalette(new int[0], new int[0]));
+        PALETTES.put("pink", new SpritePalette(new int[] { BASE_BODY }, new int[] { 0xFFE188E2 }));
+        PALETTES.put("blue", new SpritePalette(new int[] { BASE_BODY }, new int[] { 0xFF28A2F7 }));
+    }
+
+    private final int[] from;
+    private final int[] to;
+
+    private SpritePalette(int[] from, int[] to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Retrieves the palette for a duck colour.
+     * <p>
+     * Unknown colours fall back to the white palette, matching how ducks have always
+     * treated any colour other than pink or blue.
+     * </p>
+     *
+     * @param colour the duck colour (case-insensitive)
+     * @return the palette for the colour
+     */
+    public static SpritePalette forColour(String colour) {
+        SpritePalette palette = PALETTES.get(colour == null ? "white" : colour.toLowerCase());
+        return palette != null ? palette : PALETTES.get("white");
+    }
+
+    /**
+     * Returns the normalised palette key for a duck colour.
+     *
+     * @param colour the duck colour (case-insensitive)
+     * @return the key of the palette {@link #forColour(String)} would return
+     */
+    public static String keyFor(String colour) {
+        String key = colour == null ? "white" : colour.toLowerCase();
+        return PALETTES.containsKey(key) ? key : "white";
+    }
+
+    /**
+     * Checks whether the palette leaves every pixel unchanged.
+     *
+     * @return true if the palette has no colour mappings
+     */
+    public boolean isIdentity() {
+        return from.length == 0;
+    }
+
+    /**
+     * Produces a recoloured copy of an image.
+     *
+     * @param base the image to recolour
+     * @return a new image with every mapped colour replaced, or {@code base} itself for the identity palette
+     */
+    public Image apply(Image base) {
+        if (isIdentity()) {
+            return base;
+        }
+        int width = (int) base.getWidth();
+        int height = (int) base.getHeight();
+        int[] pixels = new int[width * height];
+        base.getPixelReader().getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = map(pixels[i]);
+        }
+
+        WritableImage recoloured = new WritableImage(width, height);
+        recoloured.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+        return recoloured;
+    }
+
+    // Maps a single ARGB value through the palette.
+    private int map(int argb) {
+        for (int i = 0; i < from.length; i++) {
+            if (from[i] == argb) {
+                return to[i];
+            }
+        }
+        return argb;
+    }
+}
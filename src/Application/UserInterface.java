@@ -18,8 +18,13 @@ import javafx.scene.paint.Color;
  * including the pet's health, hunger, score, and coin display. It arranges various labels and image containers
  * in a JavaFX scene and provides methods to update these UI components in response to game events.
  * </p>
+ * <p>
+ * Every node is created once. The update methods compare the pet's values with what is on screen
+ * and only change an icon's image or a label's text when the value differs, so the regular refresh
+ * costs nothing while the pet's stats are steady.
+ * </p>
  */
-public class UserInterface {
+public class UserInterface implements Hud {
     // The main scene that contains the user interface.
     private Scene scene;
     // The pet (Duck) whose status is displayed.
@@ -29,6 +34,8 @@ public class UserInterface {
     private Label happinessLabel;
     private Label tirednessLabel;
     private Label scoreLabel;
+    // Holds the shared money label above the score.
+    private VBox statsCounter;
 
     // Images representing full and empty heart icons for health.
     private final Image heartFull = new Image("file:src/assets/heartFull.png");
@@ -40,6 +47,22 @@ public class UserInterface {
     // Containers to hold the heart and hunger icons.
     private final HBox heartsContainer = new HBox(0);
     private final HBox hungerContainer = new HBox(0);
+    // Persistent icons inside the containers, updated in place.
+    private final ImageView[] hearts = createIcons(heartsContainer);
+    private final ImageView[] hungerIcons = createIcons(hungerContainer);
+
+    // Marks a value that has not been shown yet.
+    private static final int NOT_SHOWN = Integer.MIN_VALUE;
+
+    // Values currently on screen.
+    private int shownHealth = NOT_SHOWN;
+    private int shownHunger = NOT_SHOWN;
+    private int shownHappiness;
+    private int shownTiredness;
+    private int shownScore;
+    private int shownCoins = NOT_SHOWN;
+    // Update calls that found their value already on screen.
+    private long skippedUpdates = 0;
 
     /**
      * Constructs the UserInterface with the provided game settings, pet, and coin label.
@@ -68,12 +91,14 @@ public class UserInterface {
         textOutline.setSpread(0.8);
 
         // Create and style the happiness label using the pet's current happiness value.
-        happinessLabel = new Label("Happiness: " + pet.getHappiness());
+        shownHappiness = pet.getHappiness();
+        happinessLabel = new Label("Happiness: " + shownHappiness);
         happinessLabel.setStyle("-fx-font-size: 18px; -fx-font-weight: bold; -fx-text-fill: rgb(255, 112, 112);");
         happinessLabel.setEffect(textOutline); // Apply text effect
 
         // Create and style the tiredness label using the pet's current tiredness value.
-        tirednessLabel = new Label("Tiredness: " + pet.getTiredness());
+        shownTiredness = pet.getTiredness();
+        tirednessLabel = new Label("Tiredness: " + shownTiredness);
         tirednessLabel.setStyle("-fx-font-size: 18px; -fx-font-weight: bold; -fx-text-fill: rgb(255, 112, 112);");
         tirednessLabel.setEffect(textOutline); // Apply text effect
 
@@ -83,11 +108,13 @@ public class UserInterface {
         healthHungerBar.setStyle("-fx-padding: 0 20 50 0;");
 
         // Create and style the score label using the pet's current score.
-        scoreLabel = new Label("Score: " + pet.getScore());
+        shownScore = pet.getScore();
+        scoreLabel = new Label("Score: " + shownScore);
         scoreLabel.setStyle("-fx-font-size: 18px; -fx-text-fill: black; -fx-font-weight: bold;");
 
-        // Create a vertical box to hold the coin display and score.
-        VBox statsCounter = new VBox(moneyLabel, scoreLabel);
+        // Create a vertical box to hold the score; the shared coin display is
+        // only taken in onShow() so building this HUD leaves the visible one intact.
+        statsCounter = new VBox(scoreLabel);
         statsCounter.setAlignment(Pos.TOP_RIGHT);
         statsCounter.setStyle("-fx-padding: 25;");
 
@@ -116,77 +143,145 @@ public class UserInterface {
      *
      * @return the Scene containing the UI elements
      */
+    @Override
     public Scene getScene() {
         // Return the constructed Scene.
         return scene;
     }
 
+    /**
+     * Takes the shared money label back from whichever screen showed it last.
+     */
+    @Override
+    public void onShow() {
+        if (moneyLabel.getParent() != statsCounter) {
+            statsCounter.getChildren().add(0, moneyLabel);
+        }
+    }
+
     /**
      * Updates the health display by modifying the hearts container.
      * <p>
-     * This method clears the current hearts and adds 10 ImageViews,
-     * using a full heart image for each health point and an empty heart image for the remainder.
+     * The 10 heart icons are created once; only those whose state changed since the last
+     * update get a new image, and nothing is touched if health has not changed.
      * </p>
      */
+    @Override
     public void updateHealth() {
-        // Clear any existing heart icons.
-        heartsContainer.getChildren().clear();
-        // Loop through 10 positions to represent health.
-        for (int i = 0; i < 10; i++) {
-            // Use a full heart if the index is less than the pet's health; otherwise, use an empty heart.
-            ImageView heart = new ImageView(i < pet.getHealth() ? heartFull : heartEmpty);
-            heart.setFitWidth(25);
-            heart.setFitHeight(25);
-            // Add the heart icon to the container.
-            heartsContainer.getChildren().add(heart);
+        int health = pet.getHealth();
+        if (health == shownHealth) {
+            skippedUpdates++;
+            return;
         }
+        // Swap the image of each heart that crossed from full to empty or back.
+        refreshIcons(hearts, shownHealth, health, heartFull, heartEmpty);
+        shownHealth = health;
     }
 
     /**
      * Updates the hunger display by modifying the hunger container.
      * <p>
-     * This method clears the current hunger icons and adds 10 ImageViews,
-     * using a full hunger image for each hunger point and an empty hunger image for the remainder.
+     * The 10 hunger icons are created once; only those whose state changed since the last
+     * update get a new image, and nothing is touched if hunger has not changed.
      * </p>
      */
+    @Override
     public void updateHunger() {
-        // Clear any existing hunger icons.
-        hungerContainer.getChildren().clear();
-        // Loop through 10 positions to represent hunger.
-        for (int i = 0; i < 10; i++) {
-            // Use a full hunger image if the index is less than the pet's hunger; otherwise, use an empty hunger image.
-            ImageView hunger = new ImageView(i < pet.getHunger() ? hungerFull : hungerEmpty);
-            hunger.setFitWidth(25);
-            hunger.setFitHeight(25);
-            // Add the hunger icon to the container.
-            hungerContainer.getChildren().add(hunger);
+        int hunger = pet.getHunger();
+        if (hunger == shownHunger) {
+            skippedUpdates++;
+            return;
         }
+        refreshIcons(hungerIcons, shownHunger, hunger, hungerFull, hungerEmpty);
+        shownHunger = hunger;
     }
 
     /**
      * Updates the score display to reflect the pet's current score.
      */
+    @Override
     public void updateScore() {
+        int score = pet.getScore();
+        if (score == shownScore) {
+            skippedUpdates++;
+            return;
+        }
         // Set the score label text using the pet's current score.
-        scoreLabel.setText("Score: " + pet.getScore());
+        scoreLabel.setText("Score: " + score);
+        shownScore = score;
     }
 
     /**
      * Updates the coin display to reflect the pet's current coin count.
      */
+    @Override
     public void updateCoinDisplay() {
+        int coins = pet.getCoins();
+        if (coins == shownCoins) {
+            skippedUpdates++;
+            return;
+        }
         // Update the coin label with the current coin count.
-        moneyLabel.setText(" x " + pet.getCoins());
+        moneyLabel.setText(" x " + coins);
+        shownCoins = coins;
     }
 
     /**
      * Updates the statistics display (happiness and tiredness) to reflect the pet's current state.
      */
+    @Override
     public void updateStatsDisplay() {
-        // Update the happiness label with the pet's current happiness.
-        happinessLabel.setText("Happiness: " + pet.getHappiness());
-        // Update the tiredness label with the pet's current tiredness.
-        tirednessLabel.setText("Tiredness: " + pet.getTiredness());
+        int happiness = pet.getHappiness();
+        int tiredness = pet.getTiredness();
+        if (happiness == shownHappiness && tiredness == shownTiredness) {
+            skippedUpdates++;
+            return;
+        }
+        // Update only the labels whose value changed.
+        if (happiness != shownHappiness) {
+            happinessLabel.setText("Happiness: " + happiness);
+            shownHappiness = happiness;
+        }
+        if (tiredness != shownTiredness) {
+            tirednessLabel.setText("Tiredness: " + tiredness);
+            shownTiredness = tiredness;
+        }
+    }
+
+    /**
+     * Returns how many update calls found nothing to change.
+     * <p>
+     * Each update method counts one skip when the value it shows is already on screen.
+     * </p>
+     *
+     * @return the number of skipped updates since the interface was created
+     */
+    @Override
+    public long getSkippedUpdates() {
+        return skippedUpdates;
+    }
+
+    // Creates the 10 icons of a container once; images are assigned by refreshIcons.
+    private static ImageView[] createIcons(HBox container) {
+        ImageView[] icons = new ImageView[10];
+        for (int i = 0; i < icons.length; i++) {
+            icons[i] = new ImageView();
+            icons[i].setFitWidth(25);
+            icons[i].setFitHeight(25);
+            container.getChildren().add(icons[i]);
+        }
+        return icons;
+    }
+
+    // Shows the first {@code value} icons as full and the rest as empty, changing only the
+    // icons that differ from the {@code shown} value.
+    private static void refreshIcons(ImageView[] icons, int shown, int value, Image full, Image empty) {
+        for (int i = 0; i < icons.length; i++) {
+            boolean isFull = i < value;
+            if (shown == NOT_SHOWN || isFull != (i < shown)) {
+                icons[i].setImage(isFull ? full : empty);
+            }
+        }
     }
 
     /**
@@ -194,6 +289,7 @@ public class UserInterface {
      *
      * @return the coin display Label
      */
+    @Override
     public Label getCoinLabel() {
         // Return the moneyLabel reference.
         return moneyLabel;
@@ -204,6 +300,7 @@ public class UserInterface {
     *
     * @return the coin display Label
     */
+    @Override
     public Label getScoreLabel() {
         return scoreLabel;
     }
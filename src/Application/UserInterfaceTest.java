@@ -2,6 +2,7 @@ package Application;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -127,4 +128,63 @@ public class UserInterfaceTest {
         ui.updateScore();
         assertEquals("Score: " + testDuck.getScore(), ui.getScoreLabel().getText());
     }
+
+    /**
+     * Test Case: Verify Unchanged Values Are Skipped.
+     * <p>
+     * Checks that refreshing the HUD without any change to the Duck leaves every node alone.
+     * </p>
+     *
+     * <b>Test Steps:</b>
+     * <ol>
+     *   <li>Show the coins, then call every update method without changing the Duck.</li>
+     *   <li>Change the Duck's score and update it again.</li>
+     * </ol>
+     *
+     * <b>Expected Results:</b> All five updates of the unchanged round are skipped, and the score update
+     * after a change is applied rather than skipped.
+     */
+    @Test
+    public void testUnchangedValuesSkipped() {
+        ui.updateCoinDisplay();
+        long before = ui.getSkippedUpdates();
+        ui.updateHealth();
+        ui.updateHunger();
+        ui.updateScore();
+        ui.updateStatsDisplay();
+        ui.updateCoinDisplay();
+        assertEquals(before + 5, ui.getSkippedUpdates());
+
+        testDuck.setScore(5);
+        ui.updateScore();
+        assertEquals(before + 5, ui.getSkippedUpdates());
+        assertEquals("Score: " + testDuck.getScore(), ui.getScoreLabel().getText());
+    }
+
+    /**
+     * Test Case: Verify Shared Coin Label Stays Put.
+     * <p>
+     * Ensures that building a second HUD (as screen preloading does) does not take the shared
+     * coin label away from the HUD currently on display.
+     * </p>
+     *
+     * <b>Test Steps:</b>
+     * <ol>
+     *   <li>Show the first UserInterface so it takes the coin label.</li>
+     *   <li>Create a second UserInterface with the same coin label.</li>
+     *   <li>Show the second UserInterface.</li>
+     * </ol>
+     *
+     * <b>Expected Results:</b> The label stays in the first HUD's scene after the second is built,
+     * and only moves to the second HUD's scene once that one is shown.
+     */
+    @Test
+    public void testSecondHudLeavesCoinLabel() {
+        ui.onShow();
+        UserInterface other = new UserInterface(testSettings, testDuck, coinLabel);
+        assertSame("Coin label should stay on the shown HUD", ui.getScene(), coinLabel.getScene());
+
+        other.onShow();
+        assertSame("Coin label should move once the new HUD is shown", other.getScene(), coinLabel.getScene());
+    }
 }
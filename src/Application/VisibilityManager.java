@@ -0,0 +1,169 @@
+package Application;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import Application.Clock.GameClock;
+import Application.Sprites.SpriteAnimator;
+import javafx.animation.Animation;
+import javafx.animation.Timeline;
+import javafx.stage.Stage;
+
+/**
+ * Throttles animations and timers according to how visible the game window is.
+ * <br><br>
+ * The manager watches the primary stage and knows when a menu is covering the gameplay
+ * screens. The <b>game clock</b>, which drives the gameplay timers (stats, coins, playtime),
+ * is suspended while the window is minimised and catches up on the whole gap on restore.
+ * Every timer that changes game state, such as a park walk, runs on that clock, and the HUD
+ * follows the duck's stats through listeners. The remaining <b>display</b> timelines are purely
+ * visual effects of a gameplay screen; they pause whenever a menu covers that screen or the
+ * window is minimised.
+ * <br><br>
+ * Sprite animations are capped at a lower frame rate while unfocused or in a menu and are
+ * suspended entirely while minimised.
+ */
+public class VisibilityManager {
+
+    /**
+     * How much of the game the player can currently see.
+     */
+    public enum State {
+        /** A gameplay screen is showing in the focused window. */
+        VISIBLE,
+        /** The window is showing but another application has focus. */
+        UNFOCUSED,
+        /** A menu covers the gameplay screens. */
+        MENU,
+        /** The window is minimised or hidden. */
+        HIDDEN
+    }
+
+    // Sprite frames change at most every 100 ms, so this cap is visually lossless.
+    private static final double REDUCED_FRAME_RATE = 10;
+
+    // Registered display timelines; weakly held so discarded screens are not kept alive.
+    private final Set<Timeline> displayTimelines = Collections.newSetFromMap(new WeakHashMap<>());
+
+    // Timelines this manager paused and must resume.
+    private final List<Timeline> suspendedDisplay = new ArrayList<>();
+
+    private final Stage stage;
+    private GameClock clock;
+    private State state = State.VISIBLE;
+    private boolean menuShowing = false;
+
+    /**
+     * Creates a manager for the game window.
+     *
+     * @param stage the primary stage
+     */
+    public VisibilityManager(Stage stage) {
+        this.stage = stage;
+        stage.iconifiedProperty().addListener((obs, was, is) -> update());
+        stage.focusedProperty().addListener((obs, was, is) -> update());
+        stage.showingProperty().addListener((obs, was, is) -> update());
+    }
+
+    /**
+     * Retrieves the current visibility state.
+     *
+     * @return the state
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Records whether a menu is covering the gameplay screens.
+     *
+     * @param showing true while a menu is on screen
+     */
+    public void setMenuShowing(boolean showing) {
+        this.menuShowing = showing;
+        update();
+    }
+
+    /**
+     * Registers the clock the gameplay timers run on.
+     *
+     * @param clock the game clock
+     */
+    public void manageClock(GameClock clock) {
+        this.clock = clock;
+        if (state == State.HIDDEN) {
+            clock.suspend();
+        }
+    }
+
+    /**
+     * Registers a purely visual timeline belonging to a gameplay screen.
+     *
+     * @param timeline the timeline
+     */
+    public void manageDisplay(Timeline timeline) {
+        displayTimelines.add(timeline);
+        if (state == State.MENU || state == State.HIDDEN) {
+            suspend(timeline, suspendedDisplay);
+        }
+    }
+
+    // Recomputes the state from the stage and menu flag and applies any change.
+    private void update() {
+        State next;
+        if (!stage.isShowing() || stage.isIconified()) {
+            next = State.HIDDEN;
+        } else if (menuShowing) {
+            next = State.MENU;
+        } else if (!stage.isFocused()) {
+            next = State.UNFOCUSED;
+        } else {
+            next = State.VISIBLE;
+        }
+        if (next == state) {
+            return;
+        }
+        State previous = state;
+        state = next;
+
+        if (next == State.HIDDEN) {
+            if (clock != null) {
+                clock.suspend();
+            }
+        }
+        if (previous == State.HIDDEN) {
+            if (clock != null) {
+                clock.resume();
+            }
+        }
+
+        // Display timelines only run while a gameplay screen can be seen.
+        boolean displayVisible = next == State.VISIBLE || next == State.UNFOCUSED;
+        if (!displayVisible) {
+            for (Timeline timeline : new ArrayList<>(displayTimelines)) {
+                suspend(timeline, suspendedDisplay);
+            }
+        } else if (previous == State.HIDDEN || previous == State.MENU) {
+            for (Timeline timeline : suspendedDisplay) {
+                if (timeline.getStatus() == Animation.Status.PAUSED) {
+                    timeline.play();
+                }
+            }
+            suspendedDisplay.clear();
+        }
+
+        SpriteAnimator.get().setFrameRateLimit(
+                next == State.VISIBLE ? SpriteAnimator.UNLIMITED : next == State.HIDDEN ? 0 : REDUCED_FRAME_RATE);
+    }
+
+    // Pauses a running timeline and remembers to resume it.
+    private void suspend(Timeline timeline, List<Timeline> suspended) {
+        if (timeline.getStatus() == Animation.Status.RUNNING) {
+            timeline.pause();
+            suspended.add(timeline);
+        }
+    }
+}